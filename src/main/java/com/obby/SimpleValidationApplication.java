@@ -1,5 +1,11 @@
 package com.obby;
 
+import com.obby.validation.Budget;
+import com.obby.validation.Validator;
+import com.obby.validation.ValidatorDefinition;
+import com.obby.validation.bulk.BulkValidator;
+import com.obby.validation.rule.Required;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +15,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.i18n.CookieLocaleResolver;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
 
+import java.time.Duration;
 import java.util.Locale;
 
 @SpringBootApplication
@@ -37,6 +44,44 @@ public class SimpleValidationApplication implements WebMvcConfigurer {
         return interceptor;
     }
 
+    @Bean
+    public ValidatorDefinition formValidator() {
+        return () -> Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("foo")
+                                .rule(Required.make())
+                )
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("bar")
+                                .rule(Required.make())
+                );
+    }
+
+    @Bean
+    public BulkValidator formBulkValidator(@Value("${validation.budget.deadline:0ms}") Duration budgetDeadline,
+                                           @Value("${validation.budget.rules:0}") long budgetRules,
+                                           @Value("${validation.budget.elements:0}") long budgetElements,
+                                           @Value("${validation.budget.bytes:0}") long budgetBytes,
+                                           @Value("${validation.errors.max:0}") int maxErrors,
+                                           @Value("${validation.errors.max-per-attribute:0}") int maxAttributeErrors,
+                                           @Value("${validation.pool.capacity:0}") int poolCapacity,
+                                           @Value("${validation.bulk.max-line-length:1048576}") int maxLineLength) {
+        return BulkValidator.make(this.formValidator())
+                .budget(
+                        Budget.make()
+                                .deadline(budgetDeadline)
+                                .rules(budgetRules)
+                                .elements(budgetElements)
+                                .bytes(budgetBytes)
+                )
+                .maxErrors(maxErrors)
+                .maxAttributeErrors(maxAttributeErrors)
+                .poolCapacity(poolCapacity)
+                .maxLineLength(maxLineLength);
+    }
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(this.localeChangeInterceptor());
@@ -1,40 +1,45 @@
 package com.obby;
 
-import com.obby.validation.Validator;
-import com.obby.validation.rule.Required;
+import com.obby.validation.Validate;
+import com.obby.validation.bulk.BulkValidator;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 @Controller
 public class SimpleValidationController {
 
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final BulkValidator formBulkValidator;
+
+    public SimpleValidationController(BulkValidator formBulkValidator) {
+        this.formBulkValidator = formBulkValidator;
+    }
+
     @GetMapping("/")
     public String showForm() {
         return "form";
     }
 
     @PostMapping("/")
-    public ResponseEntity<String> validateForm(@RequestBody Map<String, String> form) {
-        Validator.make()
-                .fieldValidator(
-                        Validator.FieldValidator.make()
-                                .attribute("foo")
-                                .rule(Required.make())
-                )
-                .fieldValidator(
-                        Validator.FieldValidator.make()
-                                .attribute("bar")
-                                .rule(Required.make())
-                )
-                .abort(true)
-                .validate(form);
-
+    public ResponseEntity<String> validateForm(@RequestBody @Validate("formValidator") Map<String, String> form) {
         return ResponseEntity.ok("The given data is valid.");
     }
 
+    @PostMapping(value = "/bulk", consumes = NDJSON, produces = NDJSON)
+    public void validateBulk(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+
+        this.formBulkValidator.validate(body, response.getOutputStream(), LocaleContextHolder.getLocale());
+    }
+
 }
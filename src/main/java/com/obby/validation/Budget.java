@@ -0,0 +1,270 @@
+package com.obby.validation;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * 验证预算类
+ * <p>
+ * 限制一次验证的截止时间、执行的验证规则数量、访问的元素数量及扫描的字节数量（字符串按字符数计），
+ * 为 0 或 {@code null} 时不限制。预算耗尽时验证在下一个验证规则或元素前停止，已完成的验证结果保留，
+ * 数据验证器标记为 {@link Validator#exceeded()}。单个验证规则的执行不会被中断。
+ *
+ * @author obby-xiang
+ * @since 2021-02-14
+ */
+public final class Budget {
+
+    /**
+     * 截止时间
+     */
+    private Duration deadline;
+
+    /**
+     * 验证规则数量
+     */
+    private long rules;
+
+    /**
+     * 元素数量
+     */
+    private long elements;
+
+    /**
+     * 字节数量
+     */
+    private long bytes;
+
+    /**
+     * 创建验证预算
+     *
+     * @return 验证预算
+     */
+    public static Budget make() {
+        return new Budget();
+    }
+
+    /**
+     * 设置截止时间，从验证开始时计算
+     *
+     * @param deadline 截止时间
+     * @return 验证预算
+     */
+    public Budget deadline(@Nullable Duration deadline) {
+        Assert.isTrue(deadline == null || !deadline.isNegative(), "[deadline] must not be negative");
+
+        this.deadline = deadline == null || deadline.isZero() ? null : deadline;
+
+        return this;
+    }
+
+    /**
+     * 设置验证规则数量
+     *
+     * @param rules 验证规则数量
+     * @return 验证预算
+     */
+    public Budget rules(long rules) {
+        Assert.isTrue(rules >= 0, "[rules] must not be negative");
+
+        this.rules = rules;
+
+        return this;
+    }
+
+    /**
+     * 设置元素数量
+     *
+     * @param elements 元素数量
+     * @return 验证预算
+     */
+    public Budget elements(long elements) {
+        Assert.isTrue(elements >= 0, "[elements] must not be negative");
+
+        this.elements = elements;
+
+        return this;
+    }
+
+    /**
+     * 设置字节数量
+     *
+     * @param bytes 字节数量
+     * @return 验证预算
+     */
+    public Budget bytes(long bytes) {
+        Assert.isTrue(bytes >= 0, "[bytes] must not be negative");
+
+        this.bytes = bytes;
+
+        return this;
+    }
+
+    /**
+     * 截止时间
+     *
+     * @return 截止时间
+     */
+    public Duration deadline() {
+        return this.deadline;
+    }
+
+    /**
+     * 验证规则数量
+     *
+     * @return 验证规则数量
+     */
+    public long rules() {
+        return this.rules;
+    }
+
+    /**
+     * 元素数量
+     *
+     * @return 元素数量
+     */
+    public long elements() {
+        return this.elements;
+    }
+
+    /**
+     * 字节数量
+     *
+     * @return 字节数量
+     */
+    public long bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * 是否不限制
+     *
+     * @return 是否不限制
+     */
+    public boolean unlimited() {
+        return this.deadline == null && this.rules == 0 && this.elements == 0 && this.bytes == 0;
+    }
+
+    /**
+     * 验证预算计量
+     * <p>
+     * 由数据验证器重复使用，每次验证前重置。
+     */
+    static final class Meter {
+
+        /**
+         * 剩余验证规则数量
+         */
+        private long rules;
+
+        /**
+         * 剩余元素数量
+         */
+        private long elements;
+
+        /**
+         * 剩余字节数量
+         */
+        private long bytes;
+
+        /**
+         * 截止时间（纳秒）
+         */
+        private long deadline;
+
+        /**
+         * 是否限制截止时间
+         */
+        private boolean timed;
+
+        /**
+         * 耗尽的预算，未耗尽时为 {@code null}
+         */
+        private String exceeded;
+
+        /**
+         * 重置
+         *
+         * @param budget 验证预算
+         */
+        void reset(Budget budget) {
+            this.rules = budget.rules == 0 ? Long.MAX_VALUE : budget.rules;
+            this.elements = budget.elements == 0 ? Long.MAX_VALUE : budget.elements;
+            this.bytes = budget.bytes == 0 ? Long.MAX_VALUE : budget.bytes;
+            this.timed = budget.deadline != null;
+            this.deadline = this.timed ? System.nanoTime() + budget.deadline.toNanos() : 0;
+            this.exceeded = null;
+        }
+
+        /**
+         * 计量一次验证规则测试
+         *
+         * @param data 测试对象
+         * @return 是否在预算内
+         */
+        boolean test(Object data) {
+            if (--this.rules < 0) {
+                return this.exceed("rules");
+            }
+
+            if (data instanceof CharSequence) {
+                this.bytes -= ((CharSequence) data).length();
+            } else if (data instanceof byte[]) {
+                this.bytes -= ((byte[]) data).length;
+            }
+
+            if (this.bytes < 0) {
+                return this.exceed("bytes");
+            }
+
+            return this.inTime();
+        }
+
+        /**
+         * 计量一次元素访问
+         *
+         * @return 是否在预算内
+         */
+        boolean element() {
+            if (--this.elements < 0) {
+                return this.exceed("elements");
+            }
+
+            return this.inTime();
+        }
+
+        /**
+         * 耗尽的预算
+         *
+         * @return 耗尽的预算，未耗尽时为 {@code null}
+         */
+        String exceeded() {
+            return this.exceeded;
+        }
+
+        /**
+         * 是否未到截止时间
+         *
+         * @return 是否未到截止时间
+         */
+        private boolean inTime() {
+            return !this.timed || System.nanoTime() - this.deadline < 0 || this.exceed("deadline");
+        }
+
+        /**
+         * 标记预算耗尽
+         *
+         * @param resource 耗尽的预算
+         * @return {@code false}
+         */
+        private boolean exceed(String resource) {
+            this.exceeded = resource;
+
+            return false;
+        }
+
+    }
+
+}
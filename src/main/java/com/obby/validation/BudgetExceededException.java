@@ -0,0 +1,56 @@
+package com.obby.validation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 验证预算耗尽异常类
+ *
+ * @author obby-xiang
+ * @since 2021-02-14
+ */
+public class BudgetExceededException extends ValidationException {
+
+    public static final String DEFAULT_MESSAGE = "The validation budget is exceeded.";
+
+    /**
+     * 构造
+     *
+     * @param errors 验证失败消息
+     */
+    public BudgetExceededException(Map<String, List<String>> errors) {
+        this(errors, false);
+    }
+
+    /**
+     * 构造
+     *
+     * @param errors    验证失败消息
+     * @param truncated 验证失败消息是否因数量达到上限被截断
+     */
+    public BudgetExceededException(Map<String, List<String>> errors, boolean truncated) {
+        super(DEFAULT_MESSAGE, errors, truncated);
+    }
+
+    /**
+     * 创建验证预算耗尽异常
+     *
+     * @param errors 验证失败消息
+     * @return 验证预算耗尽异常
+     */
+    public static BudgetExceededException make(Map<String, List<String>> errors) {
+        return new BudgetExceededException(errors);
+    }
+
+    /**
+     * 创建验证预算耗尽异常
+     *
+     * @param errors    验证失败消息
+     * @param truncated 验证失败消息是否因数量达到上限被截断
+     * @return 验证预算耗尽异常
+     */
+    public static BudgetExceededException make(Map<String, List<String>> errors, boolean truncated) {
+        return new BudgetExceededException(errors, truncated);
+    }
+
+}
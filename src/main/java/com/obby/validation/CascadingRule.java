@@ -0,0 +1,111 @@
+package com.obby.validation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * 级联数据验证规则抽象类
+ * <p>
+ * 验证对象的嵌套对象，由图模式的数据验证器验证时绑定本次验证的对象图，按对象标识复用验证结果并检测环。
+ * 由设置验证预算的数据验证器验证时绑定验证预算计量，嵌套的验证规则程序共享同一验证预算。
+ *
+ * @param <B> 验证规则子类类型
+ * @author obby-xiang
+ * @since 2021-02-21
+ */
+public abstract class CascadingRule<B extends CascadingRule<B>> extends Rule<Object, B> {
+
+    /**
+     * 对象图
+     */
+    private ObjectGraph graph;
+
+    /**
+     * 验证预算计量
+     */
+    private Budget.Meter meter;
+
+    /**
+     * 对象图或验证预算计量是否在上次绑定到嵌套的验证规则程序后变化
+     */
+    private boolean changed;
+
+    /**
+     * 绑定对象图
+     *
+     * @param graph 对象图，非图模式时为 {@code null}
+     */
+    void bind(ObjectGraph graph) {
+        if (this.graph != graph) {
+            this.graph = graph;
+            this.changed = true;
+        }
+    }
+
+    /**
+     * 绑定验证预算计量
+     *
+     * @param meter 验证预算计量，未设置验证预算时为 {@code null}
+     */
+    void bind(Budget.Meter meter) {
+        if (this.meter != meter) {
+            this.meter = meter;
+            this.changed = true;
+        }
+    }
+
+    /**
+     * 对象图
+     *
+     * @return 对象图，非图模式时为 {@code null}
+     */
+    @Nullable
+    protected ObjectGraph graph() {
+        return this.graph;
+    }
+
+    /**
+     * 是否需要重新绑定嵌套的验证规则程序，对象图或验证预算计量变化后首次调用时返回 {@code true}
+     *
+     * @return 是否需要重新绑定
+     */
+    protected boolean rebind() {
+        boolean changed = this.changed;
+
+        this.changed = false;
+
+        return changed;
+    }
+
+    /**
+     * 将对象图及验证预算计量绑定到嵌套的验证规则程序
+     *
+     * @param program 验证规则程序
+     */
+    protected void bind(@NonNull RuleProgram<?> program) {
+        program.bind(this.graph);
+        program.bind(this.meter);
+    }
+
+    /**
+     * 在验证预算内执行嵌套的验证规则程序
+     *
+     * @param program 验证规则程序
+     * @param data    验证对象
+     * @param <T>     验证对象类型
+     * @return 是否通过测试，预算耗尽时为 {@code false}
+     */
+    protected <T> boolean test(@NonNull RuleProgram<T> program, T data) {
+        return program.test(data, this.meter);
+    }
+
+    /**
+     * 验证预算是否耗尽
+     *
+     * @return 验证预算是否耗尽
+     */
+    protected boolean exceeded() {
+        return this.meter != null && this.meter.exceeded() != null;
+    }
+
+}
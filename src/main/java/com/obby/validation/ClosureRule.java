@@ -17,6 +17,11 @@ public class ClosureRule<T> extends Rule<T, ClosureRule<T>> {
      */
     private final RuleClosure<T> closure;
 
+    /**
+     * 验证结果是否仅由验证对象决定
+     */
+    private boolean deterministic;
+
     /**
      * 规则闭包是否验证失败
      */
@@ -31,6 +36,7 @@ public class ClosureRule<T> extends Rule<T, ClosureRule<T>> {
         Assert.notNull(closure, "[closure] must not be null");
 
         this.closure = closure;
+        this.deterministic = true;
     }
 
     /**
@@ -44,6 +50,28 @@ public class ClosureRule<T> extends Rule<T, ClosureRule<T>> {
         return new ClosureRule<>(closure);
     }
 
+    /**
+     * 设置验证结果是否仅由验证对象决定，闭包依赖时间、随机数或外部状态时应设置为 {@code false}
+     *
+     * @param deterministic 是否确定
+     * @return 闭包数据验证规则
+     */
+    public ClosureRule<T> deterministic(boolean deterministic) {
+        this.deterministic = deterministic;
+
+        return this;
+    }
+
+    /**
+     * 验证结果是否仅由验证对象决定
+     *
+     * @return 是否确定
+     */
+    @Override
+    public boolean deterministic() {
+        return this.deterministic;
+    }
+
     /**
      * 默认验证消息
      *
@@ -0,0 +1,59 @@
+package com.obby.validation;
+
+/**
+ * 跨字段数据验证规则抽象类
+ * <p>
+ * 由数据验证器验证时可读取同一验证对象的其他验证字段值，读取结果与字段级验证器共享同一快照。
+ *
+ * @param <T> 验证对象类型
+ * @param <B> 验证规则子类类型
+ * @author obby-xiang
+ * @since 2021-02-06
+ */
+public abstract class CrossFieldRule<T, B extends CrossFieldRule<T, B>> extends Rule<T, B> {
+
+    /**
+     * 验证字段值快照
+     */
+    private Snapshot snapshot;
+
+    /**
+     * 验证字段属性
+     */
+    private String attribute;
+
+    /**
+     * 绑定验证字段值快照
+     *
+     * @param snapshot  验证字段值快照
+     * @param attribute 验证字段属性
+     */
+    void bind(Snapshot snapshot, String attribute) {
+        this.snapshot = snapshot;
+        this.attribute = attribute;
+    }
+
+    /**
+     * 验证字段属性
+     *
+     * @return 验证字段属性
+     */
+    public String attribute() {
+        return this.attribute;
+    }
+
+    /**
+     * 其他验证字段值
+     *
+     * @param attribute 验证字段属性
+     * @return 验证字段值
+     */
+    protected Object value(String attribute) {
+        if (this.snapshot == null) {
+            throw new IllegalStateException("[" + this.getClass() + "] must be validated by a validator");
+        }
+
+        return this.snapshot.value(attribute);
+    }
+
+}
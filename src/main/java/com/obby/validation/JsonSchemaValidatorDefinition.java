@@ -0,0 +1,369 @@
+package com.obby.validation;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.In;
+import com.obby.validation.rule.Length;
+import com.obby.validation.rule.Matches;
+import com.obby.validation.rule.Max;
+import com.obby.validation.rule.Min;
+import com.obby.validation.rule.Nested;
+import com.obby.validation.rule.Required;
+import com.obby.validation.rule.Type;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * JSON Schema 数据验证器定义类
+ * <p>
+ * 将 JSON Schema 子集编译为数据验证器定义：根 {@code properties} 的每个属性编译为一个字段级验证器，
+ * 支持 {@code required}、{@code type}、{@code minimum}、{@code maximum}、{@code exclusiveMinimum}、
+ * {@code exclusiveMaximum}、{@code minLength}、{@code maxLength}、{@code minItems}、{@code maxItems}、
+ * {@code pattern}、{@code enum}、嵌套 {@code properties} 及 {@code items}，其他关键字忽略。
+ * 正则表达式在编译时一次编译并由全部数据验证器共享，创建数据验证器时仅实例化验证规则，验证时不再解析定义。
+ * 与 JSON Schema 不同，{@code null} 值视为未提供，{@code required} 同时要求值不为空。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public final class JsonSchemaValidatorDefinition implements ValidatorDefinition {
+
+    /**
+     * 版本，由定义内容计算
+     */
+    private final String version;
+
+    /**
+     * 字段级验证器定义，键为验证字段属性
+     */
+    private final Map<String, List<Supplier<Rule<Object, ?>>>> fieldDefinitions;
+
+    /**
+     * 构造
+     *
+     * @param version          版本
+     * @param fieldDefinitions 字段级验证器定义
+     */
+    private JsonSchemaValidatorDefinition(String version,
+                                          Map<String, List<Supplier<Rule<Object, ?>>>> fieldDefinitions) {
+        this.version = version;
+        this.fieldDefinitions = fieldDefinitions;
+    }
+
+    /**
+     * 编译 JSON Schema 数据验证器定义
+     *
+     * @param path JSON Schema 文件路径
+     * @return JSON Schema 数据验证器定义
+     * @throws IOException 读取失败
+     */
+    public static JsonSchemaValidatorDefinition compile(@NonNull Path path) throws IOException {
+        Assert.notNull(path, "[path] must not be null");
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return compile(JsonParser.parseReader(reader));
+        }
+    }
+
+    /**
+     * 编译 JSON Schema 数据验证器定义
+     *
+     * @param json JSON Schema
+     * @return JSON Schema 数据验证器定义
+     */
+    public static JsonSchemaValidatorDefinition compile(@NonNull JsonElement json) {
+        Assert.notNull(json, "[json] must not be null");
+
+        JsonObject schema = schema(json);
+        Map<String, List<Supplier<Rule<Object, ?>>>> fieldDefinitions = new LinkedHashMap<>();
+        List<Supplier<Rule<Object, ?>>> rules = rules(schema, false);
+
+        if (!rules.isEmpty()) {
+            fieldDefinitions.put(Validator.ATTRIBUTE_OF_DATA, rules);
+        }
+
+        properties(schema).forEach((name, property) -> fieldDefinitions.put(name, List.copyOf(property)));
+
+        return new JsonSchemaValidatorDefinition(
+                Hashing.murmur3_128().hashString(json.toString(), StandardCharsets.UTF_8).toString(),
+                fieldDefinitions
+        );
+    }
+
+    /**
+     * 版本，定义内容变化时变化
+     *
+     * @return 版本
+     */
+    public String version() {
+        return this.version;
+    }
+
+    /**
+     * 创建数据验证器
+     *
+     * @return 数据验证器
+     */
+    @Override
+    public Validator define() {
+        Validator validator = Validator.make().version(this.version);
+
+        this.fieldDefinitions.forEach((attribute, factories) -> {
+            List<Rule<? super Object, ?>> rules = new ArrayList<>(factories.size());
+
+            for (Supplier<Rule<Object, ?>> factory : factories) {
+                rules.add(factory.get());
+            }
+
+            validator.fieldValidator(Validator.FieldValidator.make().attribute(attribute).rules(rules));
+        });
+
+        return validator;
+    }
+
+    /**
+     * 编译属性验证规则，必填验证规则在前；没有支持的关键字的属性不包括在内
+     *
+     * @param schema JSON Schema
+     * @return 属性名称对应的验证规则工厂列表
+     */
+    private static Map<String, List<Supplier<Rule<Object, ?>>>> properties(JsonObject schema) {
+        Map<String, List<Supplier<Rule<Object, ?>>>> properties = new LinkedHashMap<>();
+
+        if (schema.has("required")) {
+            for (JsonElement element : array(schema, "required")) {
+                properties.computeIfAbsent(element.getAsString(), (key) -> new ArrayList<>()).add(Required::make);
+            }
+        }
+
+        if (schema.has("properties")) {
+            JsonElement element = schema.get("properties");
+
+            if (!element.isJsonObject()) {
+                throw new JsonParseException("[properties] must be an object");
+            }
+
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                properties.computeIfAbsent(entry.getKey(), (key) -> new ArrayList<>())
+                        .addAll(rules(schema(entry.getValue()), true));
+            }
+        }
+
+        properties.values().removeIf(List::isEmpty);
+
+        return properties;
+    }
+
+    /**
+     * 编译 JSON Schema 验证规则
+     *
+     * @param schema JSON Schema
+     * @param nested 是否将属性编译为嵌套对象验证规则，根 JSON Schema 的属性编译为字段级验证器
+     * @return 验证规则工厂列表
+     */
+    private static List<Supplier<Rule<Object, ?>>> rules(JsonObject schema, boolean nested) {
+        List<Supplier<Rule<Object, ?>>> rules = new ArrayList<>();
+
+        if (schema.has("type")) {
+            List<String> types = new ArrayList<>();
+            JsonElement element = schema.get("type");
+
+            for (JsonElement type : element.isJsonArray() ? element.getAsJsonArray() : List.of(element)) {
+                types.add(type.getAsString());
+            }
+
+            try {
+                new Type(types);
+            } catch (IllegalArgumentException e) {
+                throw new JsonParseException(e.getMessage(), e);
+            }
+
+            rules.add(() -> new Type(types));
+        }
+
+        minimum(schema, "minimum", "exclusiveMinimum", true, rules);
+        minimum(schema, "maximum", "exclusiveMaximum", false, rules);
+        length(schema, "minLength", "maxLength", Length.Target.STRING, rules);
+        length(schema, "minItems", "maxItems", Length.Target.ITEMS, rules);
+
+        if (schema.has("pattern")) {
+            String regex = schema.get("pattern").getAsString();
+            Pattern pattern;
+
+            try {
+                pattern = Pattern.compile(regex);
+            } catch (PatternSyntaxException e) {
+                throw new JsonParseException("[pattern] " + regex + " is invalid", e);
+            }
+
+            rules.add(() -> Matches.make(pattern));
+        }
+
+        if (schema.has("enum")) {
+            List<Object> values = new ArrayList<>();
+
+            for (JsonElement element : array(schema, "enum")) {
+                if (!element.isJsonNull()) {
+                    values.add(value(element));
+                }
+            }
+
+            if (!values.isEmpty()) {
+                rules.add(() -> new In(values));
+            }
+        }
+
+        Map<String, List<Supplier<Rule<Object, ?>>>> properties = nested ? properties(schema) : Map.of();
+
+        if (!properties.isEmpty()) {
+            rules.add(() -> {
+                Nested rule = Nested.make();
+
+                properties.forEach((name, factories) -> {
+                    List<Rule<Object, ?>> property = new ArrayList<>(factories.size());
+
+                    for (Supplier<Rule<Object, ?>> factory : factories) {
+                        property.add(factory.get());
+                    }
+
+                    rule.property(name, property);
+                });
+
+                return rule;
+            });
+        }
+
+        if (schema.has("items")) {
+            for (Supplier<Rule<Object, ?>> item : rules(schema(schema.get("items")), true)) {
+                rules.add(() -> Each.make(item.get()));
+            }
+        }
+
+        return rules;
+    }
+
+    /**
+     * 编译数值界限验证规则，支持布尔（draft 4）及数值（draft 6 及以后）形式的排他界限
+     *
+     * @param schema    JSON Schema
+     * @param inclusive 界限关键字
+     * @param exclusive 排他界限关键字
+     * @param minimum   是否为最小值
+     * @param rules     验证规则工厂列表
+     */
+    private static void minimum(JsonObject schema, String inclusive, String exclusive, boolean minimum,
+                                List<Supplier<Rule<Object, ?>>> rules) {
+        JsonElement flag = schema.get(exclusive);
+        boolean legacy = flag != null && flag.isJsonPrimitive() && flag.getAsJsonPrimitive().isBoolean();
+
+        if (schema.has(inclusive)) {
+            BigDecimal limit = schema.get(inclusive).getAsBigDecimal();
+            boolean excluded = legacy && flag.getAsBoolean();
+
+            rules.add(minimum ? () -> Min.make(limit, excluded) : () -> Max.make(limit, excluded));
+        }
+
+        if (flag != null && !legacy) {
+            BigDecimal limit = flag.getAsBigDecimal();
+
+            rules.add(minimum ? () -> Min.make(limit, true) : () -> Max.make(limit, true));
+        }
+    }
+
+    /**
+     * 编译长度验证规则
+     *
+     * @param schema JSON Schema
+     * @param min    最小长度关键字
+     * @param max    最大长度关键字
+     * @param target 验证对象类型
+     * @param rules  验证规则工厂列表
+     */
+    private static void length(JsonObject schema, String min, String max, Length.Target target,
+                               List<Supplier<Rule<Object, ?>>> rules) {
+        if (!schema.has(min) && !schema.has(max)) {
+            return;
+        }
+
+        int minLength = schema.has(min) ? schema.get(min).getAsInt() : 0;
+        int maxLength = schema.has(max) ? schema.get(max).getAsInt() : Length.UNBOUNDED;
+
+        if (minLength < 0 || maxLength < minLength) {
+            throw new JsonParseException("[" + min + "] and [" + max + "] are invalid");
+        }
+
+        rules.add(() -> new Length(target, minLength, maxLength));
+    }
+
+    /**
+     * 枚举值，数值转换为 {@link BigDecimal}
+     *
+     * @param element 枚举值定义
+     * @return 枚举值
+     */
+    private static Object value(JsonElement element) {
+        if (!element.isJsonPrimitive()) {
+            throw new JsonParseException("[enum] supports primitive values only");
+        }
+
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+
+        return primitive.isNumber() ? primitive.getAsBigDecimal() : primitive.getAsString();
+    }
+
+    /**
+     * 检查 JSON Schema
+     *
+     * @param json JSON Schema
+     * @return JSON Schema
+     */
+    private static JsonObject schema(JsonElement json) {
+        if (!json.isJsonObject()) {
+            throw new JsonParseException("schema must be an object");
+        }
+
+        return json.getAsJsonObject();
+    }
+
+    /**
+     * 获取数组成员
+     *
+     * @param json   JSON Schema
+     * @param member 成员名称
+     * @return 数组成员
+     */
+    private static JsonArray array(JsonObject json, String member) {
+        JsonElement element = json.get(member);
+
+        if (!element.isJsonArray()) {
+            throw new JsonParseException("[" + member + "] must be an array");
+        }
+
+        return element.getAsJsonArray();
+    }
+
+}
@@ -0,0 +1,410 @@
+package com.obby.validation;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.obby.validation.rule.AllOf;
+import com.obby.validation.rule.AnyOf;
+import com.obby.validation.rule.Confirmed;
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.Not;
+import com.obby.validation.rule.Required;
+import com.obby.validation.rule.RequiredIf;
+import com.obby.validation.rule.Same;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * JSON 数据验证器定义类
+ * <p>
+ * 解析及检查在编译时一次完成，创建数据验证器时仅实例化已编译的验证规则。定义格式如下：
+ * <pre>{@code
+ * {
+ *   "bail": false,
+ *   "fieldValidators": [
+ *     {
+ *       "attribute": "foo",
+ *       "customAttribute": "Foo",
+ *       "bail": true,
+ *       "groups": ["create"],
+ *       "rules": [
+ *         {"type": "required", "message": "validation.required", "groups": ["update"]},
+ *         {"type": "anyOf", "rules": [{"type": "required"}, {"type": "not", "rule": {"type": "required"}}]},
+ *         {"type": "each", "rule": {"type": "required"}}
+ *       ]
+ *     }
+ *   ]
+ * }
+ * }</pre>
+ *
+ * @author obby-xiang
+ * @since 2021-02-04
+ */
+public final class JsonValidatorDefinition implements ValidatorDefinition {
+
+    /**
+     * 验证规则解析器
+     */
+    private static final Map<String, RuleParser> parsers = new ConcurrentHashMap<>();
+
+    static {
+        register("required", (json, nested) -> Required::make);
+        register("allOf", (json, nested) -> {
+            List<Supplier<Rule<Object, ?>>> rules = rules(json, "rules", nested);
+
+            return () -> new AllOf<>(make(rules));
+        });
+        register("anyOf", (json, nested) -> {
+            List<Supplier<Rule<Object, ?>>> rules = rules(json, "rules", nested);
+
+            return () -> new AnyOf<>(make(rules));
+        });
+        register("not", (json, nested) -> {
+            Supplier<Rule<Object, ?>> rule = nested.apply(member(json, "rule"));
+
+            return () -> Not.make(rule.get());
+        });
+        register("each", (json, nested) -> {
+            Supplier<Rule<Object, ?>> rule = nested.apply(member(json, "rule"));
+
+            return () -> Each.make(rule.get());
+        });
+        register("same", (json, nested) -> {
+            String other = member(json, "other").getAsString();
+
+            return () -> Same.make(other);
+        });
+        register("confirmed", (json, nested) -> Confirmed::make);
+        register("requiredIf", (json, nested) -> {
+            String other = member(json, "other").getAsString();
+            List<Object> values = new ArrayList<>();
+
+            for (JsonElement element : array(json, "values")) {
+                values.add(element.getAsString());
+            }
+
+            return () -> new RequiredIf(other, values);
+        });
+    }
+
+    /**
+     * 版本，由定义内容计算
+     */
+    private final String version;
+
+    /**
+     * 是否在首次验证失败后停止验证
+     */
+    private final boolean bail;
+
+    /**
+     * 字段级验证器定义列表
+     */
+    private final List<FieldDefinition> fieldDefinitions;
+
+    /**
+     * 构造
+     *
+     * @param version          版本
+     * @param bail             是否在首次验证失败后停止验证
+     * @param fieldDefinitions 字段级验证器定义列表
+     */
+    private JsonValidatorDefinition(String version, boolean bail, List<FieldDefinition> fieldDefinitions) {
+        this.version = version;
+        this.bail = bail;
+        this.fieldDefinitions = fieldDefinitions;
+    }
+
+    /**
+     * 注册验证规则解析器
+     *
+     * @param type   验证规则类型
+     * @param parser 验证规则解析器
+     */
+    public static void register(@NonNull String type, @NonNull RuleParser parser) {
+        Assert.notNull(type, "[type] must not be null");
+        Assert.notNull(parser, "[parser] must not be null");
+
+        parsers.put(type, parser);
+    }
+
+    /**
+     * 编译 JSON 数据验证器定义
+     *
+     * @param path 定义文件路径
+     * @return JSON 数据验证器定义
+     * @throws IOException 读取失败
+     */
+    public static JsonValidatorDefinition compile(@NonNull Path path) throws IOException {
+        Assert.notNull(path, "[path] must not be null");
+
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return compile(JsonParser.parseReader(reader));
+        }
+    }
+
+    /**
+     * 编译 JSON 数据验证器定义
+     *
+     * @param json 定义
+     * @return JSON 数据验证器定义
+     */
+    public static JsonValidatorDefinition compile(@NonNull JsonElement json) {
+        Assert.notNull(json, "[json] must not be null");
+
+        if (!json.isJsonObject()) {
+            throw new JsonParseException("validator definition must be an object");
+        }
+
+        JsonObject object = json.getAsJsonObject();
+        List<FieldDefinition> fieldDefinitions = new ArrayList<>();
+
+        for (JsonElement element : array(object, "fieldValidators")) {
+            if (!element.isJsonObject()) {
+                throw new JsonParseException("field validator definition must be an object");
+            }
+
+            JsonObject field = element.getAsJsonObject();
+
+            fieldDefinitions.add(
+                    new FieldDefinition(
+                            field.has("attribute") ? field.get("attribute").getAsString() : Validator.ATTRIBUTE_OF_DATA,
+                            field.has("customAttribute") ? field.get("customAttribute").getAsString() : null,
+                            field.has("bail") && field.get("bail").getAsBoolean(),
+                            groups(field),
+                            rules(field, "rules", JsonValidatorDefinition::rule)
+                    )
+            );
+        }
+
+        return new JsonValidatorDefinition(
+                Hashing.murmur3_128().hashString(json.toString(), StandardCharsets.UTF_8).toString(),
+                object.has("bail") && object.get("bail").getAsBoolean(),
+                List.copyOf(fieldDefinitions)
+        );
+    }
+
+    /**
+     * 版本，定义内容变化时变化
+     *
+     * @return 版本
+     */
+    public String version() {
+        return this.version;
+    }
+
+    /**
+     * 创建数据验证器
+     *
+     * @return 数据验证器
+     */
+    @Override
+    public Validator define() {
+        Validator validator = Validator.make().bail(this.bail).version(this.version);
+
+        for (FieldDefinition definition : this.fieldDefinitions) {
+            validator.fieldValidator(
+                    Validator.FieldValidator.make()
+                            .attribute(definition.attribute)
+                            .customAttribute(definition.customAttribute)
+                            .bail(definition.bail)
+                            .groups(definition.groups)
+                            .rules(make(definition.rules))
+            );
+        }
+
+        return validator;
+    }
+
+    /**
+     * 编译验证规则
+     *
+     * @param json 验证规则定义
+     * @return 验证规则工厂
+     */
+    private static Supplier<Rule<Object, ?>> rule(JsonElement json) {
+        if (!json.isJsonObject() || !json.getAsJsonObject().has("type")) {
+            throw new JsonParseException("rule definition must be an object with [type]");
+        }
+
+        JsonObject object = json.getAsJsonObject();
+        String type = object.get("type").getAsString();
+        RuleParser parser = parsers.get(type);
+
+        if (parser == null) {
+            throw new JsonParseException("unknown rule type [" + type + "]");
+        }
+
+        Supplier<Rule<Object, ?>> factory = parser.parse(object, JsonValidatorDefinition::rule);
+        String message = object.has("message") ? object.get("message").getAsString() : null;
+        String[] groups = groups(object);
+
+        if (message == null && groups.length == 0) {
+            return factory;
+        }
+
+        return () -> {
+            Rule<Object, ?> rule = factory.get();
+
+            if (message != null) {
+                rule.customMessage(message);
+            }
+
+            if (groups.length > 0) {
+                rule.groups(groups);
+            }
+
+            return rule;
+        };
+    }
+
+    /**
+     * 编译分组
+     *
+     * @param json 定义
+     * @return 分组
+     */
+    private static String[] groups(JsonObject json) {
+        if (!json.has("groups")) {
+            return new String[0];
+        }
+
+        List<String> groups = new ArrayList<>();
+
+        for (JsonElement element : array(json, "groups")) {
+            groups.add(element.getAsString());
+        }
+
+        return groups.toArray(new String[0]);
+    }
+
+    /**
+     * 编译验证规则列表
+     *
+     * @param json   定义
+     * @param member 验证规则列表成员名称
+     * @param nested 嵌套验证规则编译
+     * @return 验证规则工厂列表
+     */
+    private static List<Supplier<Rule<Object, ?>>> rules(JsonObject json, String member,
+                                                        Function<JsonElement, Supplier<Rule<Object, ?>>> nested) {
+        List<Supplier<Rule<Object, ?>>> rules = new ArrayList<>();
+
+        for (JsonElement element : array(json, member)) {
+            rules.add(nested.apply(element));
+        }
+
+        if (rules.isEmpty()) {
+            throw new JsonParseException("[" + member + "] must not be empty");
+        }
+
+        return List.copyOf(rules);
+    }
+
+    /**
+     * 实例化验证规则列表
+     *
+     * @param factories 验证规则工厂列表
+     * @return 验证规则列表
+     */
+    private static List<Rule<? super Object, ?>> make(List<Supplier<Rule<Object, ?>>> factories) {
+        List<Rule<? super Object, ?>> rules = new ArrayList<>(factories.size());
+
+        for (Supplier<Rule<Object, ?>> factory : factories) {
+            rules.add(factory.get());
+        }
+
+        return rules;
+    }
+
+    /**
+     * 获取数组成员
+     *
+     * @param json   定义
+     * @param member 成员名称
+     * @return 数组成员
+     */
+    private static JsonArray array(JsonObject json, String member) {
+        JsonElement element = member(json, member);
+
+        if (!element.isJsonArray()) {
+            throw new JsonParseException("[" + member + "] must be an array");
+        }
+
+        return element.getAsJsonArray();
+    }
+
+    /**
+     * 获取成员
+     *
+     * @param json   定义
+     * @param member 成员名称
+     * @return 成员
+     */
+    private static JsonElement member(JsonObject json, String member) {
+        if (!json.has(member)) {
+            throw new JsonParseException("[" + member + "] is required");
+        }
+
+        return json.get(member);
+    }
+
+    /**
+     * 验证规则解析器接口
+     */
+    @FunctionalInterface
+    public interface RuleParser {
+
+        /**
+         * 解析验证规则
+         *
+         * @param json   验证规则定义
+         * @param nested 嵌套验证规则编译
+         * @return 验证规则工厂
+         */
+        Supplier<Rule<Object, ?>> parse(JsonObject json, Function<JsonElement, Supplier<Rule<Object, ?>>> nested);
+
+    }
+
+    /**
+     * 字段级验证器定义
+     */
+    private static final class FieldDefinition {
+
+        private final String attribute;
+
+        private final String customAttribute;
+
+        private final boolean bail;
+
+        private final String[] groups;
+
+        private final List<Supplier<Rule<Object, ?>>> rules;
+
+        private FieldDefinition(String attribute, String customAttribute, boolean bail, String[] groups,
+                                List<Supplier<Rule<Object, ?>>> rules) {
+            this.attribute = attribute;
+            this.customAttribute = customAttribute;
+            this.bail = bail;
+            this.groups = groups;
+            this.rules = rules;
+        }
+
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.obby.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON 数据验证器定义加载类
+ * <p>
+ * 加载 {@code validation.definitions.location} 目录下的 {@code *.json} 定义文件，以文件名（不含扩展名）注册为
+ * {@link ValidatorDefinition} Bean，并监听目录变更热加载。重新编译完成后原子替换当前定义，
+ * 进行中的验证继续使用原定义，读取当前定义无需加锁。
+ *
+ * @author obby-xiang
+ * @since 2021-02-04
+ */
+@Component
+public class JsonValidatorDefinitions implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JsonValidatorDefinitions.class);
+
+    private static final String EXTENSION = ".json";
+
+    /**
+     * Bean 工厂
+     */
+    private final ConfigurableListableBeanFactory beanFactory;
+
+    /**
+     * 定义文件目录
+     */
+    private final String location;
+
+    /**
+     * 数据验证器定义
+     */
+    private final Map<String, ReloadableDefinition> definitions = new ConcurrentHashMap<>();
+
+    /**
+     * 目录监听服务
+     */
+    private WatchService watchService;
+
+    /**
+     * 构造
+     *
+     * @param beanFactory Bean 工厂
+     * @param location    定义文件目录
+     */
+    public JsonValidatorDefinitions(ConfigurableListableBeanFactory beanFactory,
+                                    @Value("${validation.definitions.location:}") String location) {
+        this.beanFactory = beanFactory;
+        this.location = location;
+    }
+
+    /**
+     * 数据验证器定义
+     *
+     * @param name 定义名称
+     * @return 数据验证器定义
+     */
+    public ValidatorDefinition definition(String name) {
+        return this.definitions.get(name);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!StringUtils.hasText(this.location)) {
+            return;
+        }
+
+        Path directory = Paths.get(this.location);
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path path : paths) {
+                this.load(path, true);
+            }
+        }
+
+        this.watchService = directory.getFileSystem().newWatchService();
+
+        directory.register(
+                this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY
+        );
+
+        Thread watcher = new Thread(() -> this.watch(directory), "validation-definitions-watcher");
+
+        watcher.setDaemon(true);
+        watcher.start();
+
+        logger.info("loaded {} validator definitions from [{}]", this.definitions.size(), directory);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (this.watchService != null) {
+            this.watchService.close();
+        }
+    }
+
+    /**
+     * 监听目录变更
+     *
+     * @param directory 定义文件目录
+     */
+    private void watch(Path directory) {
+        try {
+            while (true) {
+                WatchKey key = this.watchService.take();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path && event.context().toString().endsWith(EXTENSION)) {
+                        try {
+                            this.load(directory.resolve((Path) event.context()), false);
+                        } catch (Exception e) {
+                            logger.error("reload validator definition [{}] failed", event.context(), e);
+                        }
+                    }
+                }
+
+                if (!key.reset()) {
+                    logger.warn("validator definitions directory [{}] is no longer accessible", directory);
+
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            logger.debug("validator definitions watcher closed");
+        }
+    }
+
+    /**
+     * 加载定义文件
+     *
+     * @param path    定义文件路径
+     * @param startup 是否启动时加载，启动时加载失败直接抛出异常
+     * @throws IOException 读取失败
+     */
+    private void load(Path path, boolean startup) throws IOException {
+        String filename = path.getFileName().toString();
+        String name = filename.substring(0, filename.length() - EXTENSION.length());
+        JsonValidatorDefinition definition = JsonValidatorDefinition.compile(path);
+        ReloadableDefinition reloadable = this.definitions.get(name);
+
+        if (reloadable != null) {
+            reloadable.current = definition;
+
+            logger.info("reloaded validator definition [{}]", name);
+        } else if (this.beanFactory.containsBean(name)) {
+            String message = "validator definition [" + name + "] conflicts with an existing bean";
+
+            if (startup) {
+                throw new IllegalStateException(message);
+            }
+
+            logger.warn(message);
+        } else {
+            reloadable = new ReloadableDefinition(definition);
+
+            this.definitions.put(name, reloadable);
+            this.beanFactory.registerSingleton(name, reloadable);
+
+            logger.debug("loaded validator definition [{}]", name);
+        }
+    }
+
+    /**
+     * 可热加载的数据验证器定义
+     */
+    private static final class ReloadableDefinition implements ValidatorDefinition {
+
+        /**
+         * 当前数据验证器定义
+         */
+        private volatile JsonValidatorDefinition current;
+
+        /**
+         * 构造
+         *
+         * @param current 当前数据验证器定义
+         */
+        private ReloadableDefinition(JsonValidatorDefinition current) {
+            this.current = current;
+        }
+
+        @Override
+        public Validator define() {
+            return this.current.define();
+        }
+
+        @Override
+        public ValidatorDefinition current() {
+            return this.current;
+        }
+
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.obby.validation;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.obby.support.App;
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 验证消息类
+ * <p>
+ * 验证消息键在每个区域首次使用时由消息源加载并分类：不含模板标签的静态消息直接保存为驻留的字符串实例，
+ * 验证失败时不再查询消息源及渲染模板；模板消息编译一次，渲染结果经弱引用驻留池去重，相同的渲染结果共享同一实例。
+ * 消息源（应用上下文）变化时丢弃已加载的验证消息。
+ *
+ * @author obby-xiang
+ * @since 2021-02-24
+ */
+final class Messages {
+
+    private static final Logger logger = LoggerFactory.getLogger(Messages.class);
+
+    /**
+     * 模板标签起始
+     */
+    private static final String TAG = "{{";
+
+    /**
+     * 模板编译器
+     */
+    private static final Mustache.Compiler compiler = Mustache.compiler().defaultValue("{{{name}}}");
+
+    /**
+     * 驻留池
+     */
+    private static final Interner<String> interner = Interners.newWeakInterner();
+
+    /**
+     * 已加载的验证消息
+     */
+    private static volatile Catalog catalog;
+
+    private Messages() {
+    }
+
+    /**
+     * 验证消息
+     *
+     * @param key    验证消息键，未定义时作为验证消息
+     * @param locale 区域
+     * @return 验证消息
+     */
+    static Message message(String key, Locale locale) {
+        MessageSource source = App.context();
+        Locale region = locale != null ? locale : Locale.getDefault();
+        Catalog catalog = Messages.catalog;
+
+        if (catalog == null || catalog.source != source) {
+            Messages.catalog = catalog = new Catalog(source);
+        }
+
+        return catalog.messages.computeIfAbsent(region, (value) -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, (name) -> load(source, name, region));
+    }
+
+    /**
+     * 渲染验证消息
+     *
+     * @param key     验证消息键，未定义时作为验证消息
+     * @param locale  区域
+     * @param data    验证对象
+     * @param context 模板上下文
+     * @return 验证消息
+     */
+    static String render(String key, Locale locale, Object data, Object context) {
+        return message(key, locale).render(data, context);
+    }
+
+    /**
+     * 加载并分类验证消息
+     *
+     * @param source 消息源
+     * @param key    验证消息键
+     * @param locale 区域
+     * @return 验证消息
+     */
+    private static Message load(MessageSource source, String key, Locale locale) {
+        String text = source != null ? source.getMessage(key, null, key, locale) : key;
+
+        if (text == null || !text.contains(TAG)) {
+            return new Message(text != null ? interner.intern(text) : key, null);
+        }
+
+        try {
+            return new Message(text, compiler.compile(text));
+        } catch (Exception e) {
+            logger.debug("compile message template [{}] failed", key, e);
+
+            return new Message(interner.intern(text), null);
+        }
+    }
+
+    /**
+     * 验证消息
+     */
+    static final class Message {
+
+        /**
+         * 验证消息文本
+         */
+        private final String text;
+
+        /**
+         * 编译的模板，静态消息为 {@code null}
+         */
+        private final Template template;
+
+        /**
+         * 构造
+         *
+         * @param text     验证消息文本
+         * @param template 编译的模板
+         */
+        private Message(String text, Template template) {
+            this.text = text;
+            this.template = template;
+        }
+
+        /**
+         * 是否为静态消息
+         *
+         * @return 是否为静态消息
+         */
+        boolean constant() {
+            return this.template == null;
+        }
+
+        /**
+         * 渲染验证消息，模板渲染失败时返回验证消息文本
+         *
+         * @param data    验证对象
+         * @param context 模板上下文
+         * @return 验证消息
+         */
+        String render(Object data, Object context) {
+            if (this.template == null) {
+                return this.text;
+            }
+
+            try {
+                StringWriter writer = new StringWriter();
+
+                this.template.execute(Collections.singletonMap("data", data), context, writer);
+
+                return interner.intern(writer.toString());
+            } catch (Exception e) {
+                logger.debug("process message template failed", e);
+
+                return this.text;
+            }
+        }
+
+    }
+
+    /**
+     * 消息源的已加载验证消息
+     */
+    private static final class Catalog {
+
+        /**
+         * 消息源
+         */
+        private final MessageSource source;
+
+        /**
+         * 各区域的验证消息
+         */
+        private final Map<Locale, Map<String, Message>> messages = new ConcurrentHashMap<>();
+
+        /**
+         * 构造
+         *
+         * @param source 消息源
+         */
+        private Catalog(MessageSource source) {
+            this.source = source;
+        }
+
+    }
+
+}
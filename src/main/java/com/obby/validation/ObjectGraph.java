@@ -0,0 +1,272 @@
+package com.obby.validation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 对象图类
+ * <p>
+ * 图模式下一次验证中级联验证规则的验证结果按验证规则及对象标识记录：同一对象被多次引用时仅验证一次并复用结果，
+ * 引用正在验证的对象（环）时视为验证通过，验证结果由正在进行的验证决定，因此验证开销与不同对象的数量成正比。
+ * 依赖环假设通过的验证结果是暂定的：环的起点验证通过时转为确定结果，验证失败时丢弃，
+ * 之后再引用这些对象时重新验证，验证结果不受遍历顺序影响。
+ *
+ * @author obby-xiang
+ * @since 2021-02-21
+ */
+public final class ObjectGraph {
+
+    /**
+     * 级联验证规则对应的对象验证结果，值为确定结果、正在验证或暂定通过的帧
+     */
+    private final Map<Rule<?, ?>, IdentityHashMap<Object, Object>> results = new IdentityHashMap<>();
+
+    /**
+     * 正在验证的帧
+     */
+    private final List<Frame> stack = new ArrayList<>();
+
+    /**
+     * 暂定通过的帧，按结束顺序排列
+     */
+    private final List<Frame> pending = new ArrayList<>();
+
+    /**
+     * 引用数量
+     */
+    private int references;
+
+    /**
+     * 验证的对象数量
+     */
+    private int objects;
+
+    /**
+     * 复用验证结果的数量
+     */
+    private int hits;
+
+    /**
+     * 环数量
+     */
+    private int cycles;
+
+    /**
+     * 构造
+     */
+    ObjectGraph() {
+    }
+
+    /**
+     * 引用数量
+     *
+     * @return 引用数量
+     */
+    public int references() {
+        return this.references;
+    }
+
+    /**
+     * 验证的对象数量
+     *
+     * @return 验证的对象数量
+     */
+    public int objects() {
+        return this.objects;
+    }
+
+    /**
+     * 复用验证结果的数量
+     *
+     * @return 复用验证结果的数量
+     */
+    public int hits() {
+        return this.hits;
+    }
+
+    /**
+     * 环数量
+     *
+     * @return 环数量
+     */
+    public int cycles() {
+        return this.cycles;
+    }
+
+    /**
+     * 开始验证对象
+     *
+     * @param rule 级联验证规则
+     * @param data 对象
+     * @return 已有验证结果，对象正在验证或暂定通过时为 {@code true}，未验证时为 {@code null} 并标记为正在验证
+     */
+    public Boolean enter(@NonNull Rule<?, ?> rule, @NonNull Object data) {
+        IdentityHashMap<Object, Object> results = this.results.computeIfAbsent(rule, (key) -> new IdentityHashMap<>());
+        Object result = results.get(data);
+
+        this.references++;
+
+        if (result == null) {
+            Frame frame = new Frame(results, data, this.stack.size(), this.pending.size());
+
+            results.put(data, frame);
+
+            this.stack.add(frame);
+            this.objects++;
+
+            return null;
+        }
+
+        if (result instanceof Frame) {
+            Frame frame = (Frame) result;
+
+            if (frame.visiting) {
+                this.cycles++;
+            } else {
+                this.hits++;
+            }
+
+            this.depend(frame.low);
+
+            return Boolean.TRUE;
+        }
+
+        this.hits++;
+
+        return (Boolean) result;
+    }
+
+    /**
+     * 结束验证对象
+     *
+     * @param rule   级联验证规则
+     * @param data   对象
+     * @param passed 是否通过验证
+     */
+    public void exit(@NonNull Rule<?, ?> rule, @NonNull Object data, boolean passed) {
+        Frame frame = this.stack.remove(this.stack.size() - 1);
+
+        Assert.state(frame.data == data && frame.results == this.results.get(rule), "[exit] must match [enter]");
+
+        frame.visiting = false;
+
+        boolean provisional = passed && frame.low < frame.depth;
+        int kept = frame.mark;
+
+        for (int i = frame.mark; i < this.pending.size(); i++) {
+            Frame dependent = this.pending.get(i);
+
+            if (dependent.low < frame.depth) {
+                this.pending.set(kept++, dependent);
+            } else if (provisional) {
+                dependent.low = frame.low;
+
+                this.pending.set(kept++, dependent);
+            } else if (passed) {
+                dependent.results.put(dependent.data, Boolean.TRUE);
+            } else {
+                dependent.results.remove(dependent.data);
+            }
+        }
+
+        this.pending.subList(kept, this.pending.size()).clear();
+
+        if (provisional) {
+            this.pending.add(frame);
+            this.depend(frame.low);
+        } else {
+            frame.results.put(data, passed);
+        }
+    }
+
+    /**
+     * 当前验证的对象依赖正在验证的帧的结果
+     *
+     * @param depth 依赖的帧深度
+     */
+    private void depend(int depth) {
+        if (!this.stack.isEmpty()) {
+            Frame top = this.stack.get(this.stack.size() - 1);
+
+            top.low = Math.min(top.low, depth);
+        }
+    }
+
+    /**
+     * 清空验证结果
+     */
+    void clear() {
+        this.results.values().forEach(IdentityHashMap::clear);
+        this.stack.clear();
+        this.pending.clear();
+        this.references = 0;
+        this.objects = 0;
+        this.hits = 0;
+        this.cycles = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "references=" + this.references + ", objects=" + this.objects
+                + ", hits=" + this.hits + ", cycles=" + this.cycles;
+    }
+
+    /**
+     * 验证帧
+     */
+    private static final class Frame {
+
+        /**
+         * 所属的对象验证结果
+         */
+        private final IdentityHashMap<Object, Object> results;
+
+        /**
+         * 对象
+         */
+        private final Object data;
+
+        /**
+         * 深度
+         */
+        private final int depth;
+
+        /**
+         * 开始验证时暂定通过的帧数量
+         */
+        private final int mark;
+
+        /**
+         * 依赖的最浅帧深度，小于深度时验证结果是暂定的
+         */
+        private int low;
+
+        /**
+         * 是否正在验证
+         */
+        private boolean visiting = true;
+
+        /**
+         * 构造
+         *
+         * @param results 所属的对象验证结果
+         * @param data    对象
+         * @param depth   深度
+         * @param mark    开始验证时暂定通过的帧数量
+         */
+        private Frame(IdentityHashMap<Object, Object> results, Object data, int depth, int mark) {
+            this.results = results;
+            this.data = data;
+            this.depth = depth;
+            this.mark = mark;
+            this.low = depth;
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+package com.obby.validation;
+
+import org.reactivestreams.Publisher;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 响应式数据验证器类
+ * <p>
+ * 验证 {@link Mono} 及 {@link Flux} 的元素并发出验证结果。区域由 Reactor 上下文传递（{@link #LOCALE}），
+ * 不依赖 {@link org.springframework.context.i18n.LocaleContextHolder}；验证不执行阻塞操作，
+ * 验证失败消息在需要时渲染。数据验证器保存验证状态，因此每个线程由数据验证器池借出一个数据验证器并重复使用。
+ * <p>
+ * 未设置调度器时在发出元素的线程上验证，请求数量原样传递给上游；设置调度器时在调度器上验证，
+ * 上游最多预取 {@link #prefetch()} 个元素，下游消费后再补充请求。
+ *
+ * @author obby-xiang
+ * @since 2021-02-09
+ */
+public final class ReactiveValidator {
+
+    /**
+     * 区域上下文键
+     */
+    public static final String LOCALE = ReactiveValidator.class.getName() + ".LOCALE";
+
+    /**
+     * 默认预取数量
+     */
+    public static final int DEFAULT_PREFETCH = 32;
+
+    /**
+     * 数据验证器定义
+     */
+    private final ValidatorDefinition definition;
+
+    /**
+     * 数据验证器池
+     */
+    private final ValidatorPool validators;
+
+    /**
+     * 调度器
+     */
+    private Scheduler scheduler;
+
+    /**
+     * 预取数量
+     */
+    private int prefetch;
+
+    /**
+     * 构造
+     *
+     * @param definition 数据验证器定义
+     */
+    public ReactiveValidator(@NonNull ValidatorDefinition definition) {
+        Assert.notNull(definition, "[definition] must not be null");
+
+        this.definition = definition;
+        this.validators = ValidatorPool.threadLocal(definition)
+                .configurer((validator) -> validator.abort(false).compact(true));
+        this.prefetch = DEFAULT_PREFETCH;
+    }
+
+    /**
+     * 创建响应式数据验证器
+     *
+     * @param definition 数据验证器定义
+     * @return 响应式数据验证器
+     */
+    public static ReactiveValidator make(@NonNull ValidatorDefinition definition) {
+        return new ReactiveValidator(definition);
+    }
+
+    /**
+     * 设置区域的上下文修改
+     *
+     * @param locale 区域
+     * @return 上下文修改
+     */
+    public static Function<Context, Context> locale(@NonNull Locale locale) {
+        Assert.notNull(locale, "[locale] must not be null");
+
+        return (context) -> context.put(LOCALE, locale);
+    }
+
+    /**
+     * 设置调度器
+     *
+     * @param scheduler 调度器
+     * @return 响应式数据验证器
+     */
+    public ReactiveValidator scheduler(@Nullable Scheduler scheduler) {
+        this.scheduler = scheduler;
+
+        return this;
+    }
+
+    /**
+     * 设置预取数量
+     *
+     * @param prefetch 预取数量
+     * @return 响应式数据验证器
+     */
+    public ReactiveValidator prefetch(int prefetch) {
+        Assert.isTrue(prefetch > 0, "[prefetch] must be positive");
+
+        this.prefetch = prefetch;
+
+        return this;
+    }
+
+    /**
+     * 数据验证器定义
+     *
+     * @return 数据验证器定义
+     */
+    public ValidatorDefinition definition() {
+        return this.definition;
+    }
+
+    /**
+     * 调度器
+     *
+     * @return 调度器
+     */
+    public Scheduler scheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * 预取数量
+     *
+     * @return 预取数量
+     */
+    public int prefetch() {
+        return this.prefetch;
+    }
+
+    /**
+     * 验证元素
+     *
+     * @param mono 验证对象
+     * @param <T>  验证对象类型
+     * @return 验证结果
+     */
+    public <T> Mono<Validated<T>> validate(@NonNull Mono<T> mono) {
+        Assert.notNull(mono, "[mono] must not be null");
+
+        return Mono.deferContextual((context) -> {
+            Locale locale = locale(context);
+            Mono<T> source = this.scheduler == null ? mono : mono.publishOn(this.scheduler);
+
+            return source.map((data) -> this.validate(data, locale));
+        });
+    }
+
+    /**
+     * 验证全部元素
+     *
+     * @param publisher 验证对象
+     * @param <T>       验证对象类型
+     * @return 验证结果
+     */
+    public <T> Flux<Validated<T>> validate(@NonNull Publisher<T> publisher) {
+        Assert.notNull(publisher, "[publisher] must not be null");
+
+        return Flux.deferContextual((context) -> {
+            Locale locale = locale(context);
+            Flux<T> source = this.scheduler == null
+                    ? Flux.from(publisher) : Flux.from(publisher).publishOn(this.scheduler, this.prefetch);
+
+            return source.map((data) -> this.validate(data, locale));
+        });
+    }
+
+    /**
+     * 验证元素，验证失败时发出 {@link ValidationException}，验证预算耗尽时发出 {@link BudgetExceededException}
+     *
+     * @param mono 验证对象
+     * @param <T>  验证对象类型
+     * @return 验证对象
+     */
+    public <T> Mono<T> require(@NonNull Mono<T> mono) {
+        return this.validate(mono).handle((validated, sink) -> {
+            if (validated.exceeded()) {
+                sink.error(BudgetExceededException.make(validated.errors(), validated.truncated()));
+            } else if (validated.failed()) {
+                sink.error(ValidationException.make(validated.errors(), validated.truncated()));
+            } else {
+                sink.next(validated.data());
+            }
+        });
+    }
+
+    /**
+     * 验证数据
+     *
+     * @param data   验证对象
+     * @param locale 区域
+     * @param <T>    验证对象类型
+     * @return 验证结果
+     */
+    private <T> Validated<T> validate(T data, Locale locale) {
+        return this.validators.apply((validator) -> {
+            validator.locale(locale);
+            validator.validate(data);
+
+            return new Validated<>(data, validator);
+        });
+    }
+
+    /**
+     * 上下文区域
+     *
+     * @param context 上下文
+     * @return 区域
+     */
+    private static Locale locale(ContextView context) {
+        return context.getOrDefault(LOCALE, Locale.getDefault());
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.obby.validation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 验证结果缓存类
+ * <p>
+ * 以验证对象规范化后的指纹、数据验证器版本、区域及分组为键缓存紧凑验证失败结果，重复提交相同数据时不再验证，
+ * 验证失败消息仍在需要时按命中的数据验证器的验证规则表渲染。
+ * 验证对象按 JSON 树规范化（对象成员按名称排序，数值去除末尾的零）后计算 128 位 MurmurHash3 指纹，
+ * 无法规范化（包括存在环）时不使用缓存。缓存结果仅由验证对象决定，因此验证规则及验证条件应是确定的。
+ * 线程安全，可由多个数据验证器共享。
+ *
+ * @author obby-xiang
+ * @since 2021-02-11
+ */
+public final class ResultCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultCache.class);
+
+    private static final Gson gson = new Gson();
+
+    /**
+     * 缓存
+     */
+    private final Cache<HashCode, Violations> cache;
+
+    /**
+     * 构造
+     *
+     * @param maximumSize 最大条目数量
+     * @param ttl         写入后过期时间
+     */
+    public ResultCache(long maximumSize, @NonNull Duration ttl) {
+        Assert.isTrue(maximumSize > 0, "[maximumSize] must be positive");
+        Assert.notNull(ttl, "[ttl] must not be null");
+
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 创建验证结果缓存
+     *
+     * @param maximumSize 最大条目数量
+     * @param ttl         写入后过期时间
+     * @return 验证结果缓存
+     */
+    public static ResultCache make(long maximumSize, @NonNull Duration ttl) {
+        return new ResultCache(maximumSize, ttl);
+    }
+
+    /**
+     * 缓存统计，包括命中率
+     *
+     * @return 缓存统计
+     */
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * 条目数量
+     *
+     * @return 条目数量
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * 计算缓存键
+     *
+     * @param data    验证对象
+     * @param version 数据验证器版本，不同定义的数据验证器不应相同
+     * @param locale  区域
+     * @param groups  分组
+     * @return 缓存键，验证对象无法规范化或存在环时为 {@code null}
+     */
+    HashCode key(Object data, @NonNull String version, Locale locale, Set<String> groups) {
+        Assert.notNull(version, "[version] must not be null");
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+
+        try {
+            hash(gson.toJsonTree(data), hasher);
+        } catch (RuntimeException | StackOverflowError e) {
+            logger.debug("fingerprint failed", e);
+
+            return null;
+        }
+
+        string(hasher, version);
+        string(hasher, locale.toLanguageTag());
+
+        if (groups != null) {
+            for (String group : new TreeSet<>(groups)) {
+                string(hasher, group);
+            }
+        }
+
+        return hasher.hash();
+    }
+
+    /**
+     * 获取紧凑验证失败结果
+     *
+     * @param key   缓存键
+     * @param table 数据验证器的验证规则表
+     * @return 绑定到验证规则表的紧凑验证失败结果，未缓存或与验证规则表不一致时为 {@code null}
+     */
+    Violations get(HashCode key, Violations.Table table) {
+        Violations violations = this.cache.getIfPresent(key);
+
+        return violations != null ? violations.bind(table) : null;
+    }
+
+    /**
+     * 缓存紧凑验证失败结果
+     *
+     * @param key        缓存键
+     * @param violations 紧凑验证失败结果
+     */
+    void put(HashCode key, Violations violations) {
+        this.cache.put(key, violations.trim());
+    }
+
+    /**
+     * 计算规范化 JSON 树的指纹
+     *
+     * @param json   JSON 树
+     * @param hasher 指纹计算
+     */
+    private static void hash(JsonElement json, Hasher hasher) {
+        if (json == null || json.isJsonNull()) {
+            hasher.putByte((byte) 0);
+        } else if (json.isJsonPrimitive()) {
+            JsonPrimitive primitive = json.getAsJsonPrimitive();
+
+            if (primitive.isBoolean()) {
+                hasher.putByte((byte) 1).putBoolean(primitive.getAsBoolean());
+            } else if (primitive.isNumber()) {
+                string(hasher.putByte((byte) 2), primitive.getAsBigDecimal().stripTrailingZeros().toPlainString());
+            } else {
+                string(hasher.putByte((byte) 3), primitive.getAsString());
+            }
+        } else if (json.isJsonArray()) {
+            hasher.putByte((byte) 4).putInt(json.getAsJsonArray().size());
+
+            for (JsonElement element : json.getAsJsonArray()) {
+                hash(element, hasher);
+            }
+        } else {
+            JsonObject object = json.getAsJsonObject();
+            Map<String, JsonElement> members = new TreeMap<>();
+
+            for (Map.Entry<String, JsonElement> member : object.entrySet()) {
+                members.put(member.getKey(), member.getValue());
+            }
+
+            hasher.putByte((byte) 5).putInt(members.size());
+
+            for (Map.Entry<String, JsonElement> member : members.entrySet()) {
+                string(hasher, member.getKey());
+                hash(member.getValue(), hasher);
+            }
+        }
+    }
+
+    /**
+     * 计算字符串指纹，前置长度以区分边界
+     *
+     * @param hasher 指纹计算
+     * @param string 字符串
+     */
+    private static void string(Hasher hasher, String string) {
+        hasher.putInt(string.length()).putString(string, StandardCharsets.UTF_8);
+    }
+
+}
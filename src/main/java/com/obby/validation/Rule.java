@@ -1,11 +1,14 @@
 package com.obby.validation;
 
-import com.obby.support.App;
-import com.samskivert.mustache.Mustache;
 import org.apache.commons.lang3.ObjectUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * 数据验证规则抽象类
@@ -17,8 +20,6 @@ import org.springframework.context.i18n.LocaleContextHolder;
  */
 public abstract class Rule<T, B extends Rule<T, B>> {
 
-    private static final Logger logger = LoggerFactory.getLogger(Rule.class);
-
     public static final String DEFAULT_MESSAGE = "validation.invalid";
 
     /**
@@ -32,15 +33,35 @@ public abstract class Rule<T, B extends Rule<T, B>> {
     private boolean failed;
 
     /**
-     * 验证失败消息
+     * 验证失败消息，首次获取时渲染
      */
     private String failedMessage;
 
+    /**
+     * 验证失败消息键
+     */
+    private String failedMessageKey;
+
+    /**
+     * 验证失败时的区域
+     */
+    private Locale failedLocale;
+
     /**
      * 自定义验证消息
      */
     private String customMessage;
 
+    /**
+     * 分组，为空时属于全部分组
+     */
+    private Set<String> groups = Collections.emptySet();
+
+    /**
+     * 分组修订号，设置分组时递增，字段级验证器据此重新筛选验证规则子集
+     */
+    private int revision;
+
     /**
      * 默认验证消息
      *
@@ -69,6 +90,50 @@ public abstract class Rule<T, B extends Rule<T, B>> {
         return (B) this;
     }
 
+    /**
+     * 设置分组，数据验证器仅执行属于当前分组的根验证规则，组合规则中的验证规则不按分组筛选
+     *
+     * @param groups 分组
+     * @return 数据验证规则
+     */
+    @SuppressWarnings("unchecked")
+    public B groups(@NonNull String... groups) {
+        Assert.noNullElements(groups, "[groups] must not contain any null elements");
+
+        this.groups = Set.copyOf(Arrays.asList(groups));
+        this.revision++;
+
+        return (B) this;
+    }
+
+    /**
+     * 分组
+     *
+     * @return 分组
+     */
+    public Set<String> groups() {
+        return this.groups;
+    }
+
+    /**
+     * 分组修订号
+     *
+     * @return 分组修订号
+     */
+    int revision() {
+        return this.revision;
+    }
+
+    /**
+     * 是否属于分组
+     *
+     * @param groups 分组，为 {@code null} 时不按分组筛选
+     * @return 是否属于分组
+     */
+    boolean active(Set<String> groups) {
+        return groups == null || this.groups.isEmpty() || !Collections.disjoint(this.groups, groups);
+    }
+
     /**
      * 验证对象
      *
@@ -93,9 +158,22 @@ public abstract class Rule<T, B extends Rule<T, B>> {
      * @return 验证失败消息
      */
     public String failedMessage() {
+        if (this.failed && this.failedMessage == null) {
+            this.failedMessage = this.render(this.failedMessageKey, this.data, this.failedLocale);
+        }
+
         return this.failedMessage;
     }
 
+    /**
+     * 验证失败消息键
+     *
+     * @return 验证失败消息键
+     */
+    public String failedMessageKey() {
+        return this.failedMessageKey;
+    }
+
     /**
      * 自定义验证消息
      *
@@ -105,6 +183,35 @@ public abstract class Rule<T, B extends Rule<T, B>> {
         return this.customMessage;
     }
 
+    /**
+     * 验证结果是否仅由验证对象决定，不确定的验证规则不使用验证结果缓存
+     *
+     * @return 是否确定
+     */
+    public boolean deterministic() {
+        return true;
+    }
+
+    /**
+     * 验证规则定义键，同一验证字段值上定义键相等的根验证规则每次验证只执行一次并共享验证结果；
+     * 为 {@code null} 时不去重。定义键应仅由验证规则的实际类型（{@link #getClass()}，子类与父类的定义键不相等）
+     * 及影响验证结果的参数构成，不包括验证消息
+     *
+     * @return 验证规则定义键
+     */
+    public Object definitionKey() {
+        return null;
+    }
+
+    /**
+     * 验证失败消息模板的上下文，模板变量从中读取
+     *
+     * @return 验证失败消息模板的上下文
+     */
+    public Object messageContext() {
+        return this;
+    }
+
     /**
      * 验证数据
      *
@@ -120,24 +227,53 @@ public abstract class Rule<T, B extends Rule<T, B>> {
      * 验证数据
      */
     private void validate() {
-        if (this.failed = !this.test(this.data)) {
-            String message = ObjectUtils.defaultIfNull(
+        this.result(this.data, !this.test(this.data), LocaleContextHolder.getLocale());
+    }
+
+    /**
+     * 设置验证结果，验证失败消息在首次获取时渲染
+     *
+     * @param data   验证对象
+     * @param failed 是否验证失败
+     * @param locale 区域
+     */
+    void result(T data, boolean failed, Locale locale) {
+        this.data = data;
+        this.failedMessage = null;
+
+        if (this.failed = failed) {
+            this.failedMessageKey = ObjectUtils.defaultIfNull(
                     ObjectUtils.defaultIfNull(this.customMessage(), this.defaultMessage()),
                     DEFAULT_MESSAGE
             );
-
-            message = App.context().getMessage(message, null, message, LocaleContextHolder.getLocale());
-
-            try {
-                this.failedMessage = Mustache.compiler().defaultValue("{{{name}}}").compile(message).execute(this);
-            } catch (Exception e) {
-                logger.debug("process message template failed", e);
-
-                this.failedMessage = message;
-            }
+            this.failedLocale = locale;
         } else {
-            this.failedMessage = null;
+            this.failedMessageKey = null;
+            this.failedLocale = null;
         }
     }
 
+    /**
+     * 重置验证结果
+     */
+    void reset() {
+        this.data = null;
+        this.failed = false;
+        this.failedMessage = null;
+        this.failedMessageKey = null;
+        this.failedLocale = null;
+    }
+
+    /**
+     * 渲染验证失败消息
+     *
+     * @param key    验证失败消息键
+     * @param data   验证对象
+     * @param locale 区域
+     * @return 验证失败消息
+     */
+    String render(String key, Object data, Locale locale) {
+        return Messages.render(key, locale, data, this.messageContext());
+    }
+
 }
@@ -0,0 +1,609 @@
+package com.obby.validation;
+
+import com.google.common.primitives.Ints;
+import com.obby.validation.rule.AllOf;
+import com.obby.validation.rule.AnyOf;
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.Not;
+import com.obby.validation.rule.When;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 验证规则程序类
+ * <p>
+ * 将验证规则及组合规则编译为扁平的指令数组，组合规则的短路求值通过跳转目标实现，
+ * 验证时仅需一个循环依次执行指令，避免逐层的规则调用。
+ *
+ * @param <T> 验证对象类型
+ * @author obby-xiang
+ * @since 2021-02-02
+ */
+public final class RuleProgram<T> {
+
+    /**
+     * 测试验证规则，操作数为验证规则索引
+     */
+    static final int TEST = 0;
+
+    /**
+     * 取反验证结果
+     */
+    static final int NOT = 1;
+
+    /**
+     * 验证失败时跳转，跳转目标为指令索引
+     */
+    static final int JUMP_IF_FALSE = 2;
+
+    /**
+     * 验证通过时跳转，跳转目标为指令索引
+     */
+    static final int JUMP_IF_TRUE = 3;
+
+    /**
+     * 不符合验证条件时视为验证通过并跳转，操作数为验证条件索引
+     */
+    static final int WHEN = 4;
+
+    /**
+     * 逐个元素执行子程序，操作数为子程序索引
+     */
+    static final int EACH = 5;
+
+    /**
+     * 记录根验证规则的验证结果，操作数为根验证规则索引
+     */
+    static final int REPORT = 6;
+
+    /**
+     * 共享验证结果已记录时读取并跳转，操作数为共享验证结果索引，跳转目标为指令索引
+     */
+    static final int LOAD = 7;
+
+    /**
+     * 记录共享验证结果，操作数为共享验证结果索引
+     */
+    static final int STORE = 8;
+
+    /**
+     * 指令
+     */
+    private final int[] codes;
+
+    /**
+     * 指令操作数
+     */
+    private final int[] operands;
+
+    /**
+     * 指令跳转目标
+     */
+    private final int[] targets;
+
+    /**
+     * 验证规则
+     */
+    private final Rule<?, ?>[] rules;
+
+    /**
+     * 验证条件
+     */
+    private final Validator.ConditionClosure<?>[] conditions;
+
+    /**
+     * 子程序
+     */
+    private final RuleProgram<?>[] programs;
+
+    /**
+     * 跨字段验证规则，包括子程序中的跨字段验证规则
+     */
+    private final CrossFieldRule<?, ?>[] crossFieldRules;
+
+    /**
+     * 级联验证规则，包括子程序中的级联验证规则
+     */
+    private final CascadingRule<?>[] cascadingRules;
+
+    /**
+     * 根验证规则数量
+     */
+    private final int roots;
+
+    /**
+     * 共享验证结果，0 为未记录，1 为通过，2 为失败；为 {@code null} 时不读取及记录
+     */
+    private byte[] outcomes;
+
+    /**
+     * 构造
+     *
+     * @param compiler 编译器
+     * @param roots    根验证规则数量
+     */
+    private RuleProgram(Compiler compiler, int roots) {
+        this.codes = Ints.toArray(compiler.codes);
+        this.operands = Ints.toArray(compiler.operands);
+        this.targets = Ints.toArray(compiler.targets);
+        this.rules = compiler.rules.toArray(new Rule<?, ?>[0]);
+        this.conditions = compiler.conditions.toArray(new Validator.ConditionClosure<?>[0]);
+        this.programs = compiler.programs.toArray(new RuleProgram<?>[0]);
+        this.crossFieldRules = compiler.crossFieldRules.toArray(new CrossFieldRule<?, ?>[0]);
+        this.cascadingRules = compiler.cascadingRules.toArray(new CascadingRule<?>[0]);
+        this.roots = roots;
+    }
+
+    /**
+     * 编译验证规则
+     *
+     * @param rule 验证规则
+     * @param <T>  验证对象类型
+     * @return 验证规则程序
+     */
+    public static <T> RuleProgram<T> compile(@NonNull Rule<? super T, ?> rule) {
+        Assert.notNull(rule, "[rule] must not be null");
+
+        Compiler compiler = new Compiler();
+
+        compiler.emit(rule);
+
+        return new RuleProgram<>(compiler, 0);
+    }
+
+    /**
+     * 编译验证规则列表，每个根验证规则的验证结果单独记录
+     *
+     * @param rules 验证规则列表
+     * @param <T>   验证对象类型
+     * @return 验证规则程序
+     */
+    public static <T> RuleProgram<T> compile(@NonNull List<? extends Rule<? super T, ?>> rules) {
+        Assert.notNull(rules, "[rules] must not be null");
+
+        Compiler compiler = new Compiler();
+
+        for (int i = 0; i < rules.size(); i++) {
+            compiler.emit(rules.get(i));
+            compiler.instruction(REPORT, i, -1);
+        }
+
+        return new RuleProgram<>(compiler, rules.size());
+    }
+
+    /**
+     * 编译验证规则列表，每个根验证规则的验证结果单独记录，共享验证结果的根验证规则每次执行只验证一次
+     *
+     * @param rules  验证规则列表
+     * @param shared 根验证规则的共享验证结果索引，为负数时不共享
+     * @param <T>    验证对象类型
+     * @return 验证规则程序
+     */
+    static <T> RuleProgram<T> compile(List<? extends Rule<? super T, ?>> rules, int[] shared) {
+        Assert.isTrue(shared.length == rules.size(), "[shared] must match [rules]");
+
+        Compiler compiler = new Compiler();
+
+        for (int i = 0; i < rules.size(); i++) {
+            int load = shared[i] >= 0 ? compiler.instruction(LOAD, shared[i], -1) : -1;
+
+            compiler.emit(rules.get(i));
+
+            if (load >= 0) {
+                compiler.instruction(STORE, shared[i], -1);
+                compiler.targets.set(load, compiler.codes.size());
+            }
+
+            compiler.instruction(REPORT, i, -1);
+        }
+
+        return new RuleProgram<>(compiler, rules.size());
+    }
+
+    /**
+     * 指令数量
+     *
+     * @return 指令数量
+     */
+    public int size() {
+        return this.codes.length;
+    }
+
+    /**
+     * 根验证规则数量
+     *
+     * @return 根验证规则数量
+     */
+    public int roots() {
+        return this.roots;
+    }
+
+    /**
+     * 是否包含跨字段验证规则
+     *
+     * @return 是否包含跨字段验证规则
+     */
+    boolean crossField() {
+        return this.crossFieldRules.length > 0;
+    }
+
+    /**
+     * 绑定跨字段验证规则的验证字段值快照
+     *
+     * @param snapshot  验证字段值快照
+     * @param attribute 验证字段属性
+     */
+    void bind(Snapshot snapshot, String attribute) {
+        for (CrossFieldRule<?, ?> rule : this.crossFieldRules) {
+            rule.bind(snapshot, attribute);
+        }
+    }
+
+    /**
+     * 绑定级联验证规则的对象图
+     *
+     * @param graph 对象图，非图模式时为 {@code null}
+     */
+    void bind(ObjectGraph graph) {
+        for (CascadingRule<?> rule : this.cascadingRules) {
+            rule.bind(graph);
+        }
+    }
+
+    /**
+     * 绑定级联验证规则的验证预算计量
+     *
+     * @param meter 验证预算计量，未设置验证预算时为 {@code null}
+     */
+    void bind(Budget.Meter meter) {
+        for (CascadingRule<?> rule : this.cascadingRules) {
+            rule.bind(meter);
+        }
+    }
+
+    /**
+     * 绑定共享验证结果
+     *
+     * @param outcomes 共享验证结果，为 {@code null} 时不读取及记录
+     */
+    void bind(byte[] outcomes) {
+        this.outcomes = outcomes;
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    public boolean test(T data) {
+        return this.test(data, null);
+    }
+
+    /**
+     * 在验证预算内测试数据
+     *
+     * @param data  测试对象
+     * @param meter 验证预算计量，为 {@code null} 时不限制
+     * @return 是否通过测试，预算耗尽时为 {@code false}
+     */
+    boolean test(T data, Budget.Meter meter) {
+        return this.run(data, Integer.MAX_VALUE, null, null, meter) >= 0;
+    }
+
+    /**
+     * 执行程序，记录每个根验证规则是否验证失败
+     *
+     * @param data     验证对象
+     * @param bail     是否在首次验证失败后停止验证
+     * @param failures 根验证规则是否验证失败
+     * @return 已执行的根验证规则数量
+     */
+    public int execute(T data, boolean bail, @NonNull boolean[] failures) {
+        return this.execute(data, bail, failures, null);
+    }
+
+    /**
+     * 执行程序，记录每个根验证规则是否验证失败及耗时
+     *
+     * @param data     验证对象
+     * @param bail     是否在首次验证失败后停止验证
+     * @param failures 根验证规则是否验证失败
+     * @param nanos    根验证规则耗时（纳秒），为 {@code null} 时不计时
+     * @return 已执行的根验证规则数量
+     */
+    public int execute(T data, boolean bail, @NonNull boolean[] failures, @Nullable long[] nanos) {
+        return this.execute(data, bail ? 1 : Integer.MAX_VALUE, failures, nanos, null);
+    }
+
+    /**
+     * 执行程序，记录每个根验证规则是否验证失败及耗时，验证失败数量达到上限后停止，预算耗尽时在下一个验证规则或元素前停止
+     *
+     * @param data     验证对象
+     * @param limit    验证失败数量上限，为 1 时在首次验证失败后停止验证
+     * @param failures 根验证规则是否验证失败
+     * @param nanos    根验证规则耗时（纳秒），为 {@code null} 时不计时
+     * @param meter    验证预算计量，为 {@code null} 时不限制
+     * @return 已执行的根验证规则数量，不包括因预算耗尽未完成的根验证规则
+     */
+    int execute(T data, int limit, boolean[] failures, long[] nanos, Budget.Meter meter) {
+        Assert.isTrue(limit > 0, "[limit] must be positive");
+        Assert.isTrue(failures.length >= this.roots, "[failures] must hold all root rules");
+        Assert.isTrue(nanos == null || nanos.length >= this.roots, "[nanos] must hold all root rules");
+
+        return this.run(data, limit, failures, nanos, meter);
+    }
+
+    /**
+     * 执行程序
+     *
+     * @param data     验证对象
+     * @param limit    验证失败数量上限
+     * @param failures 根验证规则是否验证失败
+     * @param nanos    根验证规则耗时（纳秒）
+     * @param meter    验证预算计量
+     * @return 无根验证规则时，通过测试返回 0，否则返回 -1；有根验证规则时返回已执行的根验证规则数量
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int run(Object data, int limit, boolean[] failures, long[] nanos, Budget.Meter meter) {
+        final int[] codes = this.codes;
+        final int[] operands = this.operands;
+
+        boolean passed = true;
+        int reported = 0;
+        int failed = 0;
+        int pc = 0;
+        long started = nanos != null ? System.nanoTime() : 0;
+
+        while (pc < codes.length) {
+            int operand = operands[pc];
+
+            switch (codes[pc]) {
+                case TEST:
+                    if (meter != null && !meter.test(data)) {
+                        return failures != null ? reported : -1;
+                    }
+
+                    passed = ((Rule) this.rules[operand]).test(data);
+
+                    if (meter != null && meter.exceeded() != null) {
+                        return failures != null ? reported : -1;
+                    }
+                    break;
+                case NOT:
+                    passed = !passed;
+                    break;
+                case JUMP_IF_FALSE:
+                    if (!passed) {
+                        pc = this.targets[pc];
+                        continue;
+                    }
+                    break;
+                case JUMP_IF_TRUE:
+                    if (passed) {
+                        pc = this.targets[pc];
+                        continue;
+                    }
+                    break;
+                case WHEN:
+                    if (!((Validator.ConditionClosure) this.conditions[operand]).accept(data)) {
+                        passed = true;
+                        pc = this.targets[pc];
+                        continue;
+                    }
+                    break;
+                case EACH:
+                    passed = each(this.programs[operand], data, meter);
+
+                    if (meter != null && meter.exceeded() != null) {
+                        return failures != null ? reported : -1;
+                    }
+                    break;
+                case LOAD:
+                    if (this.outcomes != null && this.outcomes[operand] != 0) {
+                        passed = this.outcomes[operand] == 1;
+                        pc = this.targets[pc];
+                        continue;
+                    }
+                    break;
+                case STORE:
+                    if (this.outcomes != null) {
+                        this.outcomes[operand] = (byte) (passed ? 1 : 2);
+                    }
+                    break;
+                case REPORT:
+                    failures[operand] = !passed;
+                    reported++;
+
+                    if (nanos != null) {
+                        long now = System.nanoTime();
+
+                        nanos[operand] = now - started;
+                        started = now;
+                    }
+
+                    if (!passed && ++failed >= limit) {
+                        return reported;
+                    }
+
+                    passed = true;
+                    break;
+                default:
+                    throw new IllegalStateException("unknown instruction [" + codes[pc] + "]");
+            }
+
+            pc++;
+        }
+
+        return failures != null ? reported : (passed ? 0 : -1);
+    }
+
+    /**
+     * 逐个元素执行子程序
+     *
+     * @param program 子程序
+     * @param data    验证对象
+     * @param meter   验证预算计量
+     * @return 是否全部通过测试
+     */
+    private static boolean each(RuleProgram<?> program, Object data, Budget.Meter meter) {
+        if (data == null) {
+            return true;
+        }
+
+        if (data instanceof Map) {
+            data = ((Map<?, ?>) data).values();
+        }
+
+        if (data instanceof Iterable) {
+            for (Object element : (Iterable<?>) data) {
+                if ((meter != null && !meter.element())
+                        || program.run(element, Integer.MAX_VALUE, null, null, meter) < 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (data.getClass().isArray()) {
+            for (int i = 0, length = Array.getLength(data); i < length; i++) {
+                if ((meter != null && !meter.element())
+                        || program.run(Array.get(data, i), Integer.MAX_VALUE, null, null, meter) < 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return program.run(data, Integer.MAX_VALUE, null, null, meter) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < this.codes.length; i++) {
+            builder.append(i).append(": ").append(this.codes[i]).append(' ').append(this.operands[i]);
+
+            if (this.targets[i] >= 0) {
+                builder.append(" -> ").append(this.targets[i]);
+            }
+
+            builder.append('\n');
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * 验证规则编译器
+     */
+    private static final class Compiler {
+
+        private final List<Integer> codes = new ArrayList<>();
+
+        private final List<Integer> operands = new ArrayList<>();
+
+        private final List<Integer> targets = new ArrayList<>();
+
+        private final List<Rule<?, ?>> rules = new ArrayList<>();
+
+        private final List<Validator.ConditionClosure<?>> conditions = new ArrayList<>();
+
+        private final List<RuleProgram<?>> programs = new ArrayList<>();
+
+        private final List<CrossFieldRule<?, ?>> crossFieldRules = new ArrayList<>();
+
+        private final List<CascadingRule<?>> cascadingRules = new ArrayList<>();
+
+        /**
+         * 编译验证规则
+         *
+         * @param rule 验证规则
+         */
+        private void emit(Rule<?, ?> rule) {
+            if (rule instanceof AllOf) {
+                this.junction(((AllOf<?>) rule).rules(), JUMP_IF_FALSE);
+            } else if (rule instanceof AnyOf) {
+                this.junction(((AnyOf<?>) rule).rules(), JUMP_IF_TRUE);
+            } else if (rule instanceof Not) {
+                this.emit(((Not<?>) rule).rule());
+                this.instruction(NOT, -1, -1);
+            } else if (rule instanceof When) {
+                When<?> when = (When<?>) rule;
+                int jump = this.instruction(WHEN, this.conditions.size(), -1);
+
+                this.conditions.add(when.condition());
+                this.emit(when.rule());
+                this.targets.set(jump, this.codes.size());
+            } else if (rule instanceof Each) {
+                RuleProgram<?> program = compile(((Each<?>) rule).rule());
+
+                this.instruction(EACH, this.programs.size(), -1);
+                this.programs.add(program);
+                this.crossFieldRules.addAll(Arrays.asList(program.crossFieldRules));
+                this.cascadingRules.addAll(Arrays.asList(program.cascadingRules));
+            } else {
+                this.instruction(TEST, this.rules.size(), -1);
+                this.rules.add(rule);
+
+                if (rule instanceof CrossFieldRule) {
+                    this.crossFieldRules.add((CrossFieldRule<?, ?>) rule);
+                }
+
+                if (rule instanceof CascadingRule) {
+                    this.cascadingRules.add((CascadingRule<?>) rule);
+                }
+            }
+        }
+
+        /**
+         * 编译短路组合规则
+         *
+         * @param rules 验证规则列表
+         * @param jump  短路跳转指令
+         */
+        private void junction(List<? extends Rule<?, ?>> rules, int jump) {
+            List<Integer> jumps = new ArrayList<>();
+
+            for (int i = 0; i < rules.size(); i++) {
+                if (i > 0) {
+                    jumps.add(this.instruction(jump, -1, -1));
+                }
+
+                this.emit(rules.get(i));
+            }
+
+            for (int index : jumps) {
+                this.targets.set(index, this.codes.size());
+            }
+        }
+
+        /**
+         * 添加指令
+         *
+         * @param code    指令
+         * @param operand 指令操作数
+         * @param target  指令跳转目标
+         * @return 指令索引
+         */
+        private int instruction(int code, int operand, int target) {
+            this.codes.add(code);
+            this.operands.add(operand);
+            this.targets.add(target);
+
+            return this.codes.size() - 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,316 @@
+package com.obby.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 影子验证类
+ * <p>
+ * 按采样结果将数据验证器验证过的数据交给候选验证器定义再次验证，用于在变更验证规则前评估其耗时及验证结果差异，不影响原验证结果。
+ * 影子验证在独立的有界线程池中执行，队列已满时直接丢弃样本而不排队等待；候选数据验证器由数据验证器池借出，
+ * 以原验证的分组验证且不抛出异常，超出候选数据验证器的验证预算时记为出错而不比较结果。
+ * 影子验证与请求并发读取验证对象，验证对象在验证后不应再被修改。
+ * 验证失败的验证字段属性不同时记为结果差异，其中是否验证失败不同时同时记为通过差异。
+ *
+ * @author obby-xiang
+ * @since 2021-02-23
+ */
+public final class Shadow implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(Shadow.class);
+
+    /**
+     * 线程编号
+     */
+    private static final AtomicInteger threads = new AtomicInteger();
+
+    /**
+     * 候选数据验证器池
+     */
+    private final ValidatorPool candidates;
+
+    /**
+     * 影子验证线程池
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 采样器
+     */
+    private ValidationTrace.Sampler sampler = ValidationTrace.Sampler.ALWAYS;
+
+    /**
+     * 提交的样本数量
+     */
+    private final LongAdder sampled = new LongAdder();
+
+    /**
+     * 因队列已满丢弃的样本数量
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * 完成的样本数量
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * 候选验证出错或超出验证预算的样本数量
+     */
+    private final LongAdder errors = new LongAdder();
+
+    /**
+     * 是否验证失败不同的样本数量
+     */
+    private final LongAdder mismatches = new LongAdder();
+
+    /**
+     * 验证失败的验证字段属性不同的样本数量
+     */
+    private final LongAdder divergences = new LongAdder();
+
+    /**
+     * 完成样本的原验证总耗时（纳秒）
+     */
+    private final LongAdder primaryNanos = new LongAdder();
+
+    /**
+     * 完成样本的候选验证总耗时（纳秒）
+     */
+    private final LongAdder candidateNanos = new LongAdder();
+
+    /**
+     * 构造
+     *
+     * @param candidates 候选数据验证器池
+     * @param threads    影子验证线程数量
+     * @param capacity   影子验证队列容量
+     */
+    private Shadow(ValidatorPool candidates, int threads, int capacity) {
+        this.candidates = candidates;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+                (runnable) -> {
+                    Thread thread = new Thread(runnable, "validation-shadow-" + Shadow.threads.incrementAndGet());
+
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 创建影子验证
+     *
+     * @param candidates 候选数据验证器池
+     * @param threads    影子验证线程数量
+     * @param capacity   影子验证队列容量
+     * @return 影子验证
+     */
+    public static Shadow make(@NonNull ValidatorPool candidates, int threads, int capacity) {
+        Assert.notNull(candidates, "[candidates] must not be null");
+        Assert.isTrue(threads > 0, "[threads] must be positive");
+        Assert.isTrue(capacity > 0, "[capacity] must be positive");
+
+        return new Shadow(candidates, threads, capacity);
+    }
+
+    /**
+     * 设置采样器，默认全部采样
+     *
+     * @param sampler 采样器
+     * @return 影子验证
+     */
+    public Shadow sampler(@NonNull ValidationTrace.Sampler sampler) {
+        Assert.notNull(sampler, "[sampler] must not be null");
+
+        this.sampler = sampler;
+
+        return this;
+    }
+
+    /**
+     * 候选数据验证器池
+     *
+     * @return 候选数据验证器池
+     */
+    public ValidatorPool candidates() {
+        return this.candidates;
+    }
+
+    /**
+     * 提交的样本数量
+     *
+     * @return 提交的样本数量
+     */
+    public long sampled() {
+        return this.sampled.sum();
+    }
+
+    /**
+     * 因队列已满丢弃的样本数量
+     *
+     * @return 丢弃的样本数量
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * 完成的样本数量，不包括候选验证出错的样本
+     *
+     * @return 完成的样本数量
+     */
+    public long completed() {
+        return this.completed.sum();
+    }
+
+    /**
+     * 候选验证出错或超出验证预算的样本数量
+     *
+     * @return 候选验证出错的样本数量
+     */
+    public long errors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * 是否验证失败不同的样本数量
+     *
+     * @return 通过差异数量
+     */
+    public long mismatches() {
+        return this.mismatches.sum();
+    }
+
+    /**
+     * 验证失败的验证字段属性不同的样本数量，包括通过差异
+     *
+     * @return 结果差异数量
+     */
+    public long divergences() {
+        return this.divergences.sum();
+    }
+
+    /**
+     * 完成样本的平均耗时差（纳秒），候选验证较慢时为正数
+     *
+     * @return 平均耗时差（纳秒）
+     */
+    public long latencyDelta() {
+        long completed = this.completed.sum();
+
+        return completed > 0 ? (this.candidateNanos.sum() - this.primaryNanos.sum()) / completed : 0;
+    }
+
+    /**
+     * 是否采样
+     *
+     * @return 是否采样
+     */
+    boolean sample() {
+        return this.sampler.sample();
+    }
+
+    /**
+     * 提交影子验证，队列已满时丢弃
+     *
+     * @param data       验证对象
+     * @param groups     原验证的分组，为空时不按分组筛选
+     * @param attributes 原验证失败的验证字段属性
+     * @param nanos      原验证耗时（纳秒）
+     * @return 是否已提交
+     */
+    boolean submit(Object data, Set<String> groups, Set<String> attributes, long nanos) {
+        try {
+            this.executor.execute(() -> this.run(data, groups, attributes, nanos));
+        } catch (RejectedExecutionException e) {
+            this.dropped.increment();
+
+            return false;
+        }
+
+        this.sampled.increment();
+
+        return true;
+    }
+
+    /**
+     * 执行影子验证并记录差异
+     *
+     * @param data       验证对象
+     * @param groups     原验证的分组
+     * @param attributes 原验证失败的验证字段属性
+     * @param nanos      原验证耗时（纳秒）
+     */
+    private void run(Object data, Set<String> groups, Set<String> attributes, long nanos) {
+        try {
+            this.candidates.apply((validator) -> {
+                long started = System.nanoTime();
+
+                validator.abort(false).groups(groups.toArray(new String[0])).validate(data);
+
+                long elapsed = System.nanoTime() - started;
+
+                if (validator.exceeded()) {
+                    this.errors.increment();
+
+                    logger.debug("shadow validation exceeded budget");
+
+                    return null;
+                }
+
+                Set<String> candidates = validator.errors().keySet();
+
+                this.completed.increment();
+                this.primaryNanos.add(nanos);
+                this.candidateNanos.add(elapsed);
+
+                if (attributes.isEmpty() != candidates.isEmpty()) {
+                    this.mismatches.increment();
+                }
+
+                if (!attributes.equals(candidates)) {
+                    this.divergences.increment();
+
+                    logger.debug("shadow validation diverged: primary {}, candidate {}", attributes, candidates);
+                }
+
+                return null;
+            });
+        } catch (RuntimeException e) {
+            this.errors.increment();
+
+            logger.debug("shadow validation failed", e);
+        }
+    }
+
+    /**
+     * 停止影子验证，丢弃未执行的样本
+     */
+    @Override
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "Shadow{sampled=" + this.sampled() + ", dropped=" + this.dropped() + ", completed=" + this.completed()
+                + ", errors=" + this.errors() + ", mismatches=" + this.mismatches()
+                + ", divergences=" + this.divergences() + ", latencyDelta=" + this.latencyDelta() + "}";
+    }
+
+}
@@ -0,0 +1,243 @@
+package com.obby.validation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 共享验证条件类
+ * <p>
+ * 命名的验证条件，可由多个字段级验证器共享（{@link Validator.FieldValidator#sharedCondition(SharedCondition)}），
+ * 由数据验证器验证时每次验证最多执行一次，结果保存在数据验证器的验证条件槽位中。
+ * 验证条件声明依赖的验证字段属性，执行时按声明顺序传入这些验证字段值，验证字段值与字段级验证器共享同一快照；
+ * 验证条件结果应仅由依赖的验证字段值决定。增量模式下（{@link Validator#incremental(boolean)}）
+ * 依赖的验证字段值与上次执行时相等的验证条件直接复用上次的结果。
+ *
+ * @author obby-xiang
+ * @since 2021-02-25
+ */
+public final class SharedCondition {
+
+    /**
+     * 名称
+     */
+    private final String name;
+
+    /**
+     * 依赖的验证字段属性
+     */
+    private final List<String> dependencies;
+
+    /**
+     * 验证条件
+     */
+    private final Evaluator evaluator;
+
+    /**
+     * 构造
+     *
+     * @param name         名称
+     * @param evaluator    验证条件
+     * @param dependencies 依赖的验证字段属性
+     */
+    private SharedCondition(String name, Evaluator evaluator, List<String> dependencies) {
+        this.name = name;
+        this.evaluator = evaluator;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * 创建共享验证条件
+     *
+     * @param name         名称
+     * @param evaluator    验证条件，参数为按声明顺序排列的依赖验证字段值
+     * @param dependencies 依赖的验证字段属性，{@link Validator#ATTRIBUTE_OF_DATA} 表示整个验证对象
+     * @return 共享验证条件
+     */
+    public static SharedCondition make(@NonNull String name, @NonNull Evaluator evaluator,
+                                       @NonNull String... dependencies) {
+        Assert.notNull(name, "[name] must not be null");
+        Assert.notNull(evaluator, "[evaluator] must not be null");
+        Assert.noNullElements(dependencies, "[dependencies] must not contain any null elements");
+
+        return new SharedCondition(name, evaluator, List.of(dependencies));
+    }
+
+    /**
+     * 名称
+     *
+     * @return 名称
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * 依赖的验证字段属性
+     *
+     * @return 依赖的验证字段属性
+     */
+    public List<String> dependencies() {
+        return this.dependencies;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + this.dependencies;
+    }
+
+    /**
+     * 验证条件接口
+     */
+    @FunctionalInterface
+    public interface Evaluator {
+
+        /**
+         * 是否符合验证条件
+         *
+         * @param values 按声明顺序排列的依赖验证字段值
+         * @return 是否符合验证条件
+         */
+        boolean accept(Object[] values);
+
+    }
+
+    /**
+     * 验证条件槽位，由数据验证器持有并重复使用
+     */
+    static final class Slots {
+
+        /**
+         * 共享验证条件的槽位索引
+         */
+        private final Map<SharedCondition, Integer> indexes = new IdentityHashMap<>();
+
+        /**
+         * 本次验证的结果，0 为未执行，1 为符合，2 为不符合
+         */
+        private byte[] outcomes = new byte[0];
+
+        /**
+         * 上次执行时的依赖验证字段值
+         */
+        private Object[][] inputs = new Object[0][];
+
+        /**
+         * 上次执行的结果
+         */
+        private boolean[] results = new boolean[0];
+
+        /**
+         * 是否复用依赖验证字段值未变化的结果
+         */
+        private boolean incremental;
+
+        /**
+         * 本次验证执行验证条件的次数
+         */
+        private int evaluations;
+
+        /**
+         * 开始一次验证
+         *
+         * @param incremental 是否复用依赖验证字段值未变化的结果
+         */
+        void reset(boolean incremental) {
+            Arrays.fill(this.outcomes, (byte) 0);
+
+            this.incremental = incremental;
+            this.evaluations = 0;
+        }
+
+        /**
+         * 清空结果及依赖验证字段值
+         */
+        void clear() {
+            Arrays.fill(this.outcomes, (byte) 0);
+            Arrays.fill(this.inputs, null);
+
+            this.evaluations = 0;
+        }
+
+        /**
+         * 本次验证执行验证条件的次数
+         *
+         * @return 执行次数
+         */
+        int evaluations() {
+            return this.evaluations;
+        }
+
+        /**
+         * 是否符合共享验证条件，本次验证已执行时直接返回结果
+         *
+         * @param condition 共享验证条件
+         * @param snapshot  验证字段值快照
+         * @return 是否符合验证条件
+         */
+        boolean accept(SharedCondition condition, Snapshot snapshot) {
+            int index = this.index(condition);
+
+            if (this.outcomes[index] != 0) {
+                return this.outcomes[index] == 1;
+            }
+
+            Object[] values = new Object[condition.dependencies.size()];
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = snapshot.value(condition.dependencies.get(i));
+            }
+
+            boolean accepted;
+
+            if (this.incremental && this.inputs[index] != null && Arrays.equals(this.inputs[index], values)) {
+                accepted = this.results[index];
+            } else {
+                accepted = condition.evaluator.accept(values);
+
+                this.evaluations++;
+
+                if (this.incremental) {
+                    this.inputs[index] = values;
+                    this.results[index] = accepted;
+                }
+            }
+
+            this.outcomes[index] = (byte) (accepted ? 1 : 2);
+
+            return accepted;
+        }
+
+        /**
+         * 共享验证条件的槽位索引，首次使用时分配
+         *
+         * @param condition 共享验证条件
+         * @return 槽位索引
+         */
+        private int index(SharedCondition condition) {
+            Integer index = this.indexes.get(condition);
+
+            if (index == null) {
+                index = this.indexes.size();
+
+                this.indexes.put(condition, index);
+
+                if (index >= this.outcomes.length) {
+                    int length = Math.max(4, this.outcomes.length * 2);
+
+                    this.outcomes = Arrays.copyOf(this.outcomes, length);
+                    this.inputs = Arrays.copyOf(this.inputs, length);
+                    this.results = Arrays.copyOf(this.results, length);
+                }
+            }
+
+            return index;
+        }
+
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.obby.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 验证字段值快照类
+ * <p>
+ * 每次验证时每个验证字段属性最多读取一次，字段级验证器的验证字段值按索引保存，供字段级验证器及跨字段验证规则共享。
+ * 验证字段值由验证对象类型对应的 {@link ValueSource} 从验证对象直接读取。
+ *
+ * @author obby-xiang
+ * @since 2021-02-06
+ */
+final class Snapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(Snapshot.class);
+
+    /**
+     * 未读取标记
+     */
+    private static final Object UNREAD = new Object();
+
+    /**
+     * 验证字段属性索引
+     */
+    private final Map<String, Integer> indexes;
+
+    /**
+     * 验证字段属性
+     */
+    private final String[] attributes;
+
+    /**
+     * 字段级验证器对应的验证字段属性索引
+     */
+    private final int[] slots;
+
+    /**
+     * 验证字段值
+     */
+    private final Object[] values;
+
+    /**
+     * 其他验证字段值
+     */
+    private Map<String, Object> others;
+
+    /**
+     * 验证对象
+     */
+    private Object data;
+
+    /**
+     * 验证字段值来源
+     */
+    private ValueSource source;
+
+    /**
+     * 构造
+     *
+     * @param fieldValidators 字段级验证器列表
+     */
+    Snapshot(List<Validator.FieldValidator<?>> fieldValidators) {
+        this.indexes = new HashMap<>();
+        this.slots = new int[fieldValidators.size()];
+
+        for (int i = 0; i < fieldValidators.size(); i++) {
+            this.slots[i] = this.indexes.computeIfAbsent(
+                    fieldValidators.get(i).attribute(), (attribute) -> this.indexes.size()
+            );
+        }
+
+        this.attributes = new String[this.indexes.size()];
+        this.indexes.forEach((attribute, index) -> this.attributes[index] = attribute);
+        this.values = new Object[this.attributes.length];
+    }
+
+    /**
+     * 是否与字段级验证器列表一致
+     *
+     * @param fieldValidators 字段级验证器列表
+     * @return 是否一致
+     */
+    boolean matches(List<Validator.FieldValidator<?>> fieldValidators) {
+        if (fieldValidators.size() != this.slots.length) {
+            return false;
+        }
+
+        for (int i = 0; i < this.slots.length; i++) {
+            if (!this.attributes[this.slots[i]].equals(fieldValidators.get(i).attribute())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 重置快照
+     *
+     * @param data 验证对象
+     */
+    void reset(Object data) {
+        this.data = data;
+        this.source = null;
+        this.others = null;
+
+        Arrays.fill(this.values, UNREAD);
+    }
+
+    /**
+     * 字段级验证器的验证字段值
+     *
+     * @param fieldValidator 字段级验证器索引
+     * @return 验证字段值
+     */
+    Object value(int fieldValidator) {
+        int index = this.slots[fieldValidator];
+        Object value = this.values[index];
+
+        if (value == UNREAD) {
+            value = this.values[index] = this.read(this.attributes[index]);
+        }
+
+        return value;
+    }
+
+    /**
+     * 验证字段值
+     *
+     * @param attribute 验证字段属性
+     * @return 验证字段值
+     */
+    Object value(String attribute) {
+        Integer index = this.indexes.get(attribute);
+
+        if (index != null) {
+            Object value = this.values[index];
+
+            if (value == UNREAD) {
+                value = this.values[index] = this.read(attribute);
+            }
+
+            return value;
+        }
+
+        if (this.others == null) {
+            this.others = new HashMap<>();
+        }
+
+        if (this.others.containsKey(attribute)) {
+            return this.others.get(attribute);
+        }
+
+        Object value = this.read(attribute);
+
+        this.others.put(attribute, value);
+
+        return value;
+    }
+
+    /**
+     * 读取验证字段值
+     *
+     * @param attribute 验证字段属性
+     * @return 验证字段值
+     */
+    private Object read(String attribute) {
+        if (Validator.ATTRIBUTE_OF_DATA.equals(attribute) || this.data == null) {
+            return this.data;
+        }
+
+        try {
+            if (this.source == null) {
+                this.source = ValueSources.resolve(this.data.getClass());
+            }
+
+            return this.source.value(this.data, attribute);
+        } catch (Exception e) {
+            logger.debug("get value failed", e);
+
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.obby.validation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 请求体验证注解
+ * <p>
+ * 标注在 {@code @RequestBody} 参数上，请求体绑定后使用指定的数据验证器定义验证，验证失败时抛出 {@link ValidationException}。
+ *
+ * @author obby-xiang
+ * @see ValidationRequestBodyAdvice
+ * @since 2021-02-03
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Validate {
+
+    /**
+     * 数据验证器定义 Bean 名称
+     *
+     * @return 数据验证器定义 Bean 名称
+     */
+    String value();
+
+    /**
+     * 验证分组，为空时执行全部字段级验证器及验证规则
+     *
+     * @return 验证分组
+     */
+    String[] groups() default {};
+
+}
@@ -0,0 +1,112 @@
+package com.obby.validation;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 验证结果类
+ * <p>
+ * 保存验证对象及其紧凑验证失败结果，验证失败消息在需要时按验证时的区域渲染。数据验证器未保存紧凑验证失败结果（非紧凑模式且未使用验证结果缓存）
+ * 或验证预算耗尽时保存已渲染的验证失败消息，预算耗尽时验证失败消息包括预算耗尽消息。
+ *
+ * @param <T> 验证对象类型
+ * @author obby-xiang
+ * @since 2021-02-09
+ */
+public final class Validated<T> {
+
+    /**
+     * 验证对象
+     */
+    private final T data;
+
+    /**
+     * 紧凑验证失败结果
+     */
+    private final Violations violations;
+
+    /**
+     * 已渲染的验证失败消息，由紧凑验证失败结果渲染时为 {@code null}
+     */
+    private final Map<String, List<String>> errors;
+
+    /**
+     * 验证预算是否耗尽
+     */
+    private final boolean exceeded;
+
+    /**
+     * 验证失败消息是否因数量达到上限被截断
+     */
+    private final boolean truncated;
+
+    /**
+     * 构造
+     *
+     * @param data      验证对象
+     * @param validator 数据验证器
+     */
+    Validated(T data, Validator validator) {
+        this.data = data;
+        this.violations = validator.violations();
+        this.exceeded = validator.exceeded();
+        this.truncated = validator.truncated();
+        this.errors = this.violations == null || this.exceeded ? new LinkedHashMap<>(validator.errors()) : null;
+    }
+
+    /**
+     * 验证对象
+     *
+     * @return 验证对象
+     */
+    public T data() {
+        return this.data;
+    }
+
+    /**
+     * 紧凑验证失败结果，数据验证器非紧凑模式且未使用验证结果缓存时为 {@code null}；不包括验证预算耗尽消息
+     *
+     * @return 紧凑验证失败结果
+     */
+    public Violations violations() {
+        return this.violations;
+    }
+
+    /**
+     * 是否验证失败
+     *
+     * @return 是否验证失败
+     */
+    public boolean failed() {
+        return this.errors != null ? !this.errors.isEmpty() : !this.violations.isEmpty();
+    }
+
+    /**
+     * 验证预算是否耗尽，耗尽时验证失败消息包括预算耗尽消息
+     *
+     * @return 验证预算是否耗尽
+     */
+    public boolean exceeded() {
+        return this.exceeded;
+    }
+
+    /**
+     * 验证失败消息是否因数量达到上限被截断
+     *
+     * @return 是否截断
+     */
+    public boolean truncated() {
+        return this.truncated;
+    }
+
+    /**
+     * 渲染验证失败消息
+     *
+     * @return 验证失败消息
+     */
+    public Map<String, List<String>> errors() {
+        return this.errors != null ? this.errors : this.violations.errors();
+    }
+
+}
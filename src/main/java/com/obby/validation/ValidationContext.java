@@ -0,0 +1,74 @@
+package com.obby.validation;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 数据验证上下文类
+ * <p>
+ * 保存一次验证中由数据验证器传递给字段级验证器的状态，由数据验证器重复使用。
+ *
+ * @author obby-xiang
+ * @since 2021-02-09
+ */
+final class ValidationContext {
+
+    /**
+     * 是否立即渲染验证失败消息
+     */
+    boolean render;
+
+    /**
+     * 验证字段值快照
+     */
+    Snapshot snapshot;
+
+    /**
+     * 区域
+     */
+    Locale locale;
+
+    /**
+     * 验证预算计量，为 {@code null} 时不限制
+     */
+    Budget.Meter meter;
+
+    /**
+     * 当前分组，为 {@code null} 时不按分组筛选
+     */
+    Set<String> groups;
+
+    /**
+     * 对象图，非图模式时为 {@code null}
+     */
+    ObjectGraph graph;
+
+    /**
+     * 共享验证结果，为 {@code null} 时不共享
+     */
+    byte[] outcomes;
+
+    /**
+     * 当前字段级验证器的验证失败数量上限
+     */
+    int limit = Integer.MAX_VALUE;
+
+    /**
+     * 共享验证条件槽位，为 {@code null} 时不支持共享验证条件
+     */
+    SharedCondition.Slots conditions;
+
+    /**
+     * 构造
+     *
+     * @param render   是否立即渲染验证失败消息
+     * @param snapshot 验证字段值快照
+     * @param locale   区域
+     */
+    ValidationContext(boolean render, Snapshot snapshot, Locale locale) {
+        this.render = render;
+        this.snapshot = snapshot;
+        this.locale = locale;
+    }
+
+}
@@ -22,6 +22,12 @@ public class ValidationException extends RuntimeException {
     @Getter
     private final Map<String, List<String>> errors;
 
+    /**
+     * 验证失败消息是否因数量达到上限被截断
+     */
+    @Getter
+    private final boolean truncated;
+
     /**
      * 构造
      *
@@ -38,9 +44,21 @@ public class ValidationException extends RuntimeException {
      * @param errors  验证失败消息
      */
     public ValidationException(String message, Map<String, List<String>> errors) {
+        this(message, errors, false);
+    }
+
+    /**
+     * 构造
+     *
+     * @param message   异常消息
+     * @param errors    验证失败消息
+     * @param truncated 验证失败消息是否因数量达到上限被截断
+     */
+    public ValidationException(String message, Map<String, List<String>> errors, boolean truncated) {
         super(ObjectUtils.defaultIfNull(message, DEFAULT_MESSAGE));
 
         this.errors = errors;
+        this.truncated = truncated;
     }
 
     /**
@@ -53,6 +71,17 @@ public class ValidationException extends RuntimeException {
         return new ValidationException(errors);
     }
 
+    /**
+     * 创建数据验证失败异常
+     *
+     * @param errors    验证失败消息
+     * @param truncated 验证失败消息是否因数量达到上限被截断
+     * @return 数据验证失败异常
+     */
+    public static ValidationException make(Map<String, List<String>> errors, boolean truncated) {
+        return new ValidationException(null, errors, truncated);
+    }
+
     /**
      * 创建数据验证失败异常
      *
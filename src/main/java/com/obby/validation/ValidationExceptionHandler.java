@@ -27,14 +27,19 @@ public class ValidationExceptionHandler {
      */
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<String> handle(ValidationException exception) {
-        return ResponseEntity.unprocessableEntity().body(
-                this.gson.toJson(
-                        ImmutableMap.builder()
-                                .put("message", exception.getMessage())
-                                .put("errors", exception.getErrors())
-                                .build()
-                )
-        );
+        ImmutableMap.Builder<Object, Object> body = ImmutableMap.builder()
+                .put("message", exception.getMessage())
+                .put("errors", exception.getErrors());
+
+        if (exception instanceof BudgetExceededException) {
+            body.put("exceeded", true);
+        }
+
+        if (exception.isTruncated()) {
+            body.put("truncated", true);
+        }
+
+        return ResponseEntity.unprocessableEntity().body(this.gson.toJson(body.build()));
     }
 
 }
@@ -0,0 +1,345 @@
+package com.obby.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 请求体验证处理类
+ * <p>
+ * 启动时为每个处理方法中标注 {@link Validate} 的参数解析并缓存验证计划，请求体绑定后直接使用缓存的验证计划验证。
+ * 按 {@code validation.trace.sample-rate} 采样跟踪验证，跟踪结果以 JSON 输出到日志；
+ * {@code validation.trace.header-enabled=true} 时也可由请求头 {@code X-Validation-Trace: true} 要求跟踪，默认关闭。
+ * 每次验证的预算由 {@code validation.budget.deadline}、{@code validation.budget.rules}、
+ * {@code validation.budget.elements} 及 {@code validation.budget.bytes} 限制。
+ * 数据验证器由数据验证器池借出并在验证后归还，{@code validation.pool.capacity} 为 0 时每个线程持有一个数据验证器，
+ * 否则最多保留指定数量的空闲数据验证器。
+ * 验证失败消息总数及每个验证字段属性的验证失败消息数量由 {@code validation.errors.max} 及
+ * {@code validation.errors.max-per-attribute} 限制，达到上限时停止验证并在响应中标记 {@code truncated}。
+ * 存在名称为验证器定义名称加 {@value #SHADOW_SUFFIX} 的候选验证器定义且 {@code validation.shadow.sample-rate} 大于 0 时，
+ * 按采样概率对请求体执行影子验证，影子验证线程数量及队列容量由 {@code validation.shadow.threads} 及
+ * {@code validation.shadow.capacity} 限制，队列已满时丢弃样本。同一候选验证器定义的影子验证由全部验证计划共享，
+ * 候选验证同样受验证预算限制，影子验证线程在应用上下文关闭时停止。
+ *
+ * @author obby-xiang
+ * @since 2021-02-03
+ */
+@ControllerAdvice
+public class ValidationRequestBodyAdvice extends RequestBodyAdviceAdapter implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationRequestBodyAdvice.class);
+
+    private static final Logger traceLogger = LoggerFactory.getLogger(ValidationTrace.class);
+
+    public static final String TRACE_HEADER = "X-Validation-Trace";
+
+    public static final String SHADOW_SUFFIX = ".shadow";
+
+    /**
+     * 验证计划
+     */
+    private final Map<MethodParameter, Plan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * 候选验证器定义名称对应的影子验证
+     */
+    private final Map<String, Shadow> shadows = new ConcurrentHashMap<>();
+
+    /**
+     * 是否尚未验证首个请求
+     */
+    private final AtomicBoolean first = new AtomicBoolean(true);
+
+    /**
+     * 应用上下文
+     */
+    private ApplicationContext context;
+
+    /**
+     * 数据验证跟踪采样概率
+     */
+    @Value("${validation.trace.sample-rate:0}")
+    private double traceSampleRate;
+
+    /**
+     * 是否允许由请求头要求跟踪验证
+     */
+    @Value("${validation.trace.header-enabled:false}")
+    private boolean traceHeaderEnabled;
+
+    /**
+     * 验证截止时间
+     */
+    @Value("${validation.budget.deadline:0ms}")
+    private Duration budgetDeadline;
+
+    /**
+     * 验证规则数量预算
+     */
+    @Value("${validation.budget.rules:0}")
+    private long budgetRules;
+
+    /**
+     * 元素数量预算
+     */
+    @Value("${validation.budget.elements:0}")
+    private long budgetElements;
+
+    /**
+     * 字节数量预算
+     */
+    @Value("${validation.budget.bytes:0}")
+    private long budgetBytes;
+
+    /**
+     * 最大空闲数据验证器数量，为 0 时每个线程持有一个数据验证器
+     */
+    @Value("${validation.pool.capacity:0}")
+    private int poolCapacity;
+
+    /**
+     * 验证失败消息总数上限，为 0 时不限制
+     */
+    @Value("${validation.errors.max:0}")
+    private int maxErrors;
+
+    /**
+     * 每个验证字段属性的验证失败消息数量上限，为 0 时不限制
+     */
+    @Value("${validation.errors.max-per-attribute:0}")
+    private int maxAttributeErrors;
+
+    /**
+     * 影子验证采样概率
+     */
+    @Value("${validation.shadow.sample-rate:0}")
+    private double shadowSampleRate;
+
+    /**
+     * 影子验证线程数量
+     */
+    @Value("${validation.shadow.threads:1}")
+    private int shadowThreads;
+
+    /**
+     * 影子验证队列容量
+     */
+    @Value("${validation.shadow.capacity:64}")
+    private int shadowCapacity;
+
+    /**
+     * 解析全部处理方法的验证计划
+     *
+     * @param event 上下文刷新事件
+     */
+    @EventListener
+    public void resolve(ContextRefreshedEvent event) {
+        this.context = event.getApplicationContext();
+
+        for (RequestMappingHandlerMapping mapping :
+                this.context.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod method : mapping.getHandlerMethods().values()) {
+                for (MethodParameter parameter : method.getMethodParameters()) {
+                    if (parameter.hasParameterAnnotation(Validate.class)) {
+                        this.plan(parameter);
+                    }
+                }
+            }
+        }
+
+        logger.debug("resolved {} validation plans", this.plans.size());
+    }
+
+    /**
+     * 停止影子验证
+     */
+    @Override
+    public void destroy() {
+        this.shadows.values().forEach(Shadow::close);
+        this.shadows.clear();
+    }
+
+    @Override
+    public boolean supports(@NonNull MethodParameter methodParameter, @NonNull Type targetType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return methodParameter.hasParameterAnnotation(Validate.class);
+    }
+
+    @Override
+    @NonNull
+    public Object afterBodyRead(@NonNull Object body, @NonNull HttpInputMessage inputMessage,
+                                @NonNull MethodParameter parameter, @NonNull Type targetType,
+                                @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        long started = System.nanoTime();
+
+        try (ValidatorPool.Lease lease = this.plan(parameter).validators.lease()) {
+            Validator validator = lease.validator();
+
+            if (this.traceHeaderEnabled) {
+                validator.tracing(Boolean.parseBoolean(inputMessage.getHeaders().getFirst(TRACE_HEADER)));
+            }
+
+            try {
+                validator.validate(body);
+            } finally {
+                if (validator.trace() != null) {
+                    traceLogger.info("{} {}", parameter.getExecutable(), validator.trace().toJson());
+                }
+
+                if (this.first.get() && this.first.compareAndSet(true, false)) {
+                    logger.info(
+                            "first validation of [{}] took {} us",
+                            parameter.getExecutable(), (System.nanoTime() - started) / 1_000
+                    );
+                }
+            }
+        }
+
+        return body;
+    }
+
+    /**
+     * 已解析验证计划的数据验证器池
+     *
+     * @return 方法参数对应的数据验证器池
+     */
+    Map<MethodParameter, ValidatorPool> pools() {
+        Map<MethodParameter, ValidatorPool> pools = new LinkedHashMap<>();
+
+        this.plans.forEach((parameter, plan) -> pools.put(parameter, plan.validators));
+
+        return pools;
+    }
+
+    /**
+     * 已解析验证计划的影子验证
+     *
+     * @return 方法参数对应的影子验证
+     */
+    Map<MethodParameter, Shadow> shadows() {
+        Map<MethodParameter, Shadow> shadows = new LinkedHashMap<>();
+
+        this.plans.forEach((parameter, plan) -> {
+            if (plan.shadow != null) {
+                shadows.put(parameter, plan.shadow);
+            }
+        });
+
+        return shadows;
+    }
+
+    /**
+     * 获取验证计划
+     *
+     * @param parameter 方法参数
+     * @return 验证计划
+     */
+    private Plan plan(MethodParameter parameter) {
+        return this.plans.computeIfAbsent(parameter, (key) -> {
+            Validate validate = key.getParameterAnnotation(Validate.class);
+            String name = validate.value();
+
+            try {
+                ValidatorDefinition definition = this.context.getBean(name, ValidatorDefinition.class);
+                Budget budget = Budget.make()
+                        .deadline(this.budgetDeadline)
+                        .rules(this.budgetRules)
+                        .elements(this.budgetElements)
+                        .bytes(this.budgetBytes);
+                Shadow shadow = null;
+
+                if (this.shadowSampleRate > 0 && this.context.containsBean(name + SHADOW_SUFFIX)) {
+                    shadow = this.shadows.computeIfAbsent(name + SHADOW_SUFFIX, (candidate) -> Shadow.make(
+                            ValidatorPool.threadLocal(this.context.getBean(candidate, ValidatorDefinition.class))
+                                    .configurer((validator) -> validator.budget(budget)),
+                            this.shadowThreads,
+                            this.shadowCapacity
+                    ).sampler(ValidationTrace.Sampler.probability(this.shadowSampleRate)));
+
+                    logger.info("shadow validation of [{}] enabled for [{}]", name, key.getExecutable());
+                }
+
+                return new Plan(
+                        this.poolCapacity > 0
+                                ? ValidatorPool.bounded(definition, this.poolCapacity)
+                                : ValidatorPool.threadLocal(definition),
+                        validate.groups(),
+                        ValidationTrace.Sampler.probability(this.traceSampleRate),
+                        budget,
+                        this.maxErrors,
+                        this.maxAttributeErrors,
+                        shadow
+                );
+            } catch (BeansException e) {
+                throw new IllegalStateException(
+                        "validator definition [" + name + "] for [" + key.getExecutable() + "] not found", e
+                );
+            }
+        });
+    }
+
+    /**
+     * 验证计划
+     * <p>
+     * 数据验证器保存验证状态，因此由数据验证器池借出并在验证后归还，验证器定义热加载后重新创建。
+     */
+    private static final class Plan {
+
+        /**
+         * 数据验证器池
+         */
+        private final ValidatorPool validators;
+
+        /**
+         * 影子验证，未启用时为 {@code null}
+         */
+        private final Shadow shadow;
+
+        /**
+         * 构造
+         *
+         * @param validators         数据验证器池
+         * @param groups             验证分组
+         * @param sampler            数据验证跟踪采样器
+         * @param budget             验证预算
+         * @param maxErrors          验证失败消息总数上限
+         * @param maxAttributeErrors 每个验证字段属性的验证失败消息数量上限
+         * @param shadow             影子验证
+         */
+        private Plan(ValidatorPool validators, String[] groups, ValidationTrace.Sampler sampler, Budget budget,
+                     int maxErrors, int maxAttributeErrors, Shadow shadow) {
+            this.validators = validators.configurer(
+                    (validator) -> validator.abort(true)
+                            .groups(groups)
+                            .sampler(sampler)
+                            .budget(budget)
+                            .maxErrors(maxErrors)
+                            .maxAttributeErrors(maxAttributeErrors)
+                            .shadow(shadow)
+            );
+            this.shadow = shadow;
+        }
+
+    }
+
+}
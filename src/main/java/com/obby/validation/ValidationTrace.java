@@ -0,0 +1,324 @@
+package com.obby.validation;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 数据验证跟踪类
+ * <p>
+ * 记录一次验证中验证条件、验证规则及消息渲染的执行顺序、耗时（纳秒）、是否通过以及是否跳过及跳过原因。
+ *
+ * @author obby-xiang
+ * @since 2021-02-07
+ */
+public final class ValidationTrace {
+
+    private static final Gson gson = new GsonBuilder().create();
+
+    /**
+     * 根节点
+     */
+    private final Node root;
+
+    /**
+     * 执行顺序
+     */
+    private int order;
+
+    /**
+     * 构造
+     */
+    ValidationTrace() {
+        this.root = new Node(this, "validator", null, this.order++);
+    }
+
+    /**
+     * 根节点
+     *
+     * @return 根节点
+     */
+    public Node root() {
+        return this.root;
+    }
+
+    /**
+     * 导出为 JSON
+     *
+     * @return JSON
+     */
+    public String toJson() {
+        return gson.toJson(this.root);
+    }
+
+    @Override
+    public String toString() {
+        return this.toJson();
+    }
+
+    /**
+     * 跟踪节点
+     */
+    public static final class Node {
+
+        /**
+         * 跳过原因：验证失败后停止验证（bail）
+         */
+        public static final String BAIL = "bail";
+
+        /**
+         * 跳过原因：验证预算耗尽
+         */
+        public static final String BUDGET = "budget";
+
+        /**
+         * 跳过原因：验证失败消息数量达到上限
+         */
+        public static final String TRUNCATED = "truncated";
+
+        /**
+         * 数据验证跟踪
+         */
+        private final transient ValidationTrace trace;
+
+        /**
+         * 节点类型
+         */
+        private final String type;
+
+        /**
+         * 节点名称
+         */
+        private final String name;
+
+        /**
+         * 执行顺序
+         */
+        private final int order;
+
+        /**
+         * 耗时（纳秒）
+         */
+        private long nanos;
+
+        /**
+         * 是否通过
+         */
+        private Boolean passed;
+
+        /**
+         * 是否跳过
+         */
+        private boolean skipped;
+
+        /**
+         * 跳过原因，未跳过时为 {@code null}
+         */
+        private String reason;
+
+        /**
+         * 子节点
+         */
+        private List<Node> children;
+
+        /**
+         * 开始时间
+         */
+        private transient long started;
+
+        /**
+         * 构造
+         *
+         * @param trace 数据验证跟踪
+         * @param type  节点类型
+         * @param name  节点名称
+         * @param order 执行顺序
+         */
+        private Node(ValidationTrace trace, String type, String name, int order) {
+            this.trace = trace;
+            this.type = type;
+            this.name = name;
+            this.order = order;
+            this.started = System.nanoTime();
+        }
+
+        /**
+         * 节点类型
+         *
+         * @return 节点类型
+         */
+        public String type() {
+            return this.type;
+        }
+
+        /**
+         * 节点名称
+         *
+         * @return 节点名称
+         */
+        public String name() {
+            return this.name;
+        }
+
+        /**
+         * 执行顺序
+         *
+         * @return 执行顺序
+         */
+        public int order() {
+            return this.order;
+        }
+
+        /**
+         * 耗时（纳秒）
+         *
+         * @return 耗时（纳秒）
+         */
+        public long nanos() {
+            return this.nanos;
+        }
+
+        /**
+         * 是否通过
+         *
+         * @return 是否通过
+         */
+        public Boolean passed() {
+            return this.passed;
+        }
+
+        /**
+         * 是否跳过
+         *
+         * @return 是否跳过
+         */
+        public boolean skipped() {
+            return this.skipped;
+        }
+
+        /**
+         * 跳过原因，为 {@link #BAIL}、{@link #BUDGET} 或 {@link #TRUNCATED}，未跳过时为 {@code null}
+         *
+         * @return 跳过原因
+         */
+        public String reason() {
+            return this.reason;
+        }
+
+        /**
+         * 子节点
+         *
+         * @return 子节点
+         */
+        public List<Node> children() {
+            return this.children == null ? Collections.emptyList() : Collections.unmodifiableList(this.children);
+        }
+
+        /**
+         * 开始子节点
+         *
+         * @param type 节点类型
+         * @param name 节点名称
+         * @return 子节点
+         */
+        Node start(String type, String name) {
+            Node child = new Node(this.trace, type, name, this.trace.order++);
+
+            if (this.children == null) {
+                this.children = new ArrayList<>();
+            }
+
+            this.children.add(child);
+
+            return child;
+        }
+
+        /**
+         * 添加已完成的子节点
+         *
+         * @param type   节点类型
+         * @param name   节点名称
+         * @param nanos  耗时（纳秒）
+         * @param passed 是否通过
+         */
+        void add(String type, String name, long nanos, boolean passed) {
+            Node child = this.start(type, name);
+
+            child.nanos = nanos;
+            child.passed = passed;
+        }
+
+        /**
+         * 添加跳过的子节点
+         *
+         * @param type   节点类型
+         * @param name   节点名称
+         * @param reason 跳过原因
+         */
+        void skip(String type, String name, String reason) {
+            Node child = this.start(type, name);
+
+            child.skipped = true;
+            child.reason = reason;
+        }
+
+        /**
+         * 结束节点
+         *
+         * @param passed 是否通过
+         */
+        void end(Boolean passed) {
+            this.nanos = System.nanoTime() - this.started;
+            this.passed = passed;
+        }
+
+    }
+
+    /**
+     * 数据验证跟踪采样器接口
+     */
+    @FunctionalInterface
+    public interface Sampler {
+
+        /**
+         * 不采样
+         */
+        Sampler NEVER = () -> false;
+
+        /**
+         * 全部采样
+         */
+        Sampler ALWAYS = () -> true;
+
+        /**
+         * 按概率采样
+         *
+         * @param probability 采样概率
+         * @return 数据验证跟踪采样器
+         */
+        static Sampler probability(double probability) {
+            if (probability <= 0) {
+                return NEVER;
+            }
+
+            if (probability >= 1) {
+                return ALWAYS;
+            }
+
+            return () -> ThreadLocalRandom.current().nextDouble() < probability;
+        }
+
+        /**
+         * 是否采样
+         *
+         * @return 是否采样
+         */
+        boolean sample();
+
+    }
+
+}
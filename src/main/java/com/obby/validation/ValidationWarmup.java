@@ -0,0 +1,246 @@
+package com.obby.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 数据验证预热类
+ * <p>
+ * 应用就绪时预加载各区域的验证消息，由请求体验证处理的数据验证器池借出数据验证器并以合成数据验证及渲染验证失败消息，
+ * 使消息加载、模板编译、属性访问器、分组筛选及 JIT 编译在首个请求前完成。有界数据验证器池（{@code validation.pool.capacity}
+ * 大于 0）中预热后的数据验证器归还池中供请求使用；线程数据验证器池（默认）中预热的数据验证器由预热线程持有，
+ * 请求线程首次验证时仍各自创建数据验证器，此时仅预热类加载、验证消息及 JIT 编译状态。
+ * 未被请求使用的验证器定义使用临时的数据验证器池预热。预热在就绪前同步执行，合成验证会执行验证规则，
+ * 但不执行验证回调、影子验证、跟踪及结果缓存，结束后恢复数据验证器的配置，可通过 {@code validation.warmup.enabled=false} 关闭。
+ * 预热区域由 {@code validation.warmup.locales} 设置，应包括区域解析器的默认区域，未设置时使用 JVM 默认区域。
+ *
+ * @author obby-xiang
+ * @since 2021-02-12
+ */
+@Component
+public class ValidationWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationWarmup.class);
+
+    /**
+     * 合成验证字段值
+     */
+    private static final String SAMPLE_VALUE = "warmup";
+
+    /**
+     * 请求体验证处理
+     */
+    private final ValidationRequestBodyAdvice advice;
+
+    /**
+     * 是否预热
+     */
+    @Value("${validation.warmup.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 预热区域，未设置时使用 JVM 默认区域
+     */
+    @Value("${validation.warmup.locales:}")
+    private Locale[] locales;
+
+    /**
+     * 每个验证器定义的合成验证次数
+     */
+    @Value("${validation.warmup.iterations:2000}")
+    private int iterations;
+
+    /**
+     * 合成验证次数
+     */
+    private volatile int validations;
+
+    /**
+     * 预热耗时（纳秒）
+     */
+    private volatile long nanos;
+
+    /**
+     * 构造
+     *
+     * @param advice 请求体验证处理
+     */
+    public ValidationWarmup(ValidationRequestBodyAdvice advice) {
+        this.advice = advice;
+    }
+
+    /**
+     * 合成验证次数
+     *
+     * @return 合成验证次数
+     */
+    public int validations() {
+        return this.validations;
+    }
+
+    /**
+     * 预热耗时（纳秒）
+     *
+     * @return 预热耗时（纳秒）
+     */
+    public long nanos() {
+        return this.nanos;
+    }
+
+    /**
+     * 预热
+     *
+     * @param event 应用就绪事件
+     */
+    @EventListener
+    public void warmup(ApplicationReadyEvent event) {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        if (!this.enabled) {
+            logger.info("ready {} ms after JVM start, warm-up disabled", uptime);
+
+            return;
+        }
+
+        long started = System.nanoTime();
+        ApplicationContext context = event.getApplicationContext();
+        List<Locale> locales = this.locales == null || this.locales.length == 0
+                ? List.of(Locale.getDefault()) : Arrays.asList(this.locales);
+
+        for (Locale locale : locales) {
+            Messages.message(Rule.DEFAULT_MESSAGE, locale);
+        }
+
+        Map<ValidatorPool, Class<?>> pools = new LinkedHashMap<>();
+        Set<ValidatorDefinition> definitions = new HashSet<>();
+
+        this.advice.pools().forEach((parameter, pool) -> {
+            pools.putIfAbsent(pool, parameter.getParameterType());
+            definitions.add(pool.definition());
+        });
+
+        for (ValidatorDefinition definition : context.getBeansOfType(ValidatorDefinition.class).values()) {
+            if (definitions.add(definition)) {
+                pools.put(ValidatorPool.bounded(definition, 1), Map.class);
+            }
+        }
+
+        int validations = 0;
+
+        for (Map.Entry<ValidatorPool, Class<?>> entry : pools.entrySet()) {
+            validations += this.warmup(entry.getKey(), entry.getValue(), locales);
+        }
+
+        this.validations = validations;
+        this.nanos = System.nanoTime() - started;
+
+        logger.info(
+                "ready {} ms after JVM start, warmed up {} validator definitions with {} validations in {} ms",
+                uptime, definitions.size(), validations, this.nanos / 1_000_000
+        );
+    }
+
+    /**
+     * 预热数据验证器池借出的数据验证器
+     *
+     * @param pool    数据验证器池
+     * @param type    验证对象类型
+     * @param locales 预热区域
+     * @return 合成验证次数
+     */
+    private int warmup(ValidatorPool pool, Class<?> type, List<Locale> locales) {
+        int validations = 0;
+
+        try (ValidatorPool.Lease lease = pool.lease()) {
+            Validator validator = lease.validator();
+            boolean abort = validator.abort();
+            Validator.CallbackClosure callback = validator.callback();
+            boolean tracing = validator.tracing();
+            ValidationTrace.Sampler sampler = validator.sampler();
+            ResultCache cache = validator.cache();
+            Shadow shadow = validator.shadow();
+            Locale locale = validator.locale();
+
+            validator.abort(false)
+                    .callback(null)
+                    .tracing(false)
+                    .sampler(null)
+                    .cache(null)
+                    .shadow(null);
+
+            try {
+                List<Object> samples = samples(validator, type);
+
+                for (int i = 0; i < this.iterations; i++) {
+                    validator.locale(locales.get(i % locales.size()));
+                    validator.validate(samples.get(i % samples.size()));
+                    validator.errors();
+
+                    validations++;
+                }
+            } finally {
+                validator.abort(abort)
+                        .callback(callback)
+                        .tracing(tracing)
+                        .sampler(sampler)
+                        .cache(cache)
+                        .shadow(shadow)
+                        .locale(locale);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("warm-up of [{}] failed", pool.definition(), e);
+        }
+
+        return validations;
+    }
+
+    /**
+     * 合成验证对象
+     *
+     * @param validator 数据验证器
+     * @param type      验证对象类型
+     * @return 合成验证对象列表，包括验证失败及验证通过的数据
+     */
+    private static List<Object> samples(Validator validator, Class<?> type) {
+        List<Object> samples = new ArrayList<>();
+
+        if (!Map.class.isAssignableFrom(type)) {
+            try {
+                samples.add(BeanUtils.instantiateClass(type));
+            } catch (RuntimeException e) {
+                logger.debug("instantiate [{}] failed", type, e);
+            }
+        }
+
+        Map<String, Object> filled = new HashMap<>();
+
+        for (Validator.FieldValidator<?> fieldValidator : validator.fieldValidators()) {
+            if (!Validator.ATTRIBUTE_OF_DATA.equals(fieldValidator.attribute())) {
+                filled.put(fieldValidator.attribute(), SAMPLE_VALUE);
+            }
+        }
+
+        samples.add(new HashMap<>());
+        samples.add(filled);
+
+        return samples;
+    }
+
+}
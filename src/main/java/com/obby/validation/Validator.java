@@ -1,17 +1,22 @@
 package com.obby.validation;
 
+import com.google.common.hash.HashCode;
 import org.apache.commons.lang3.ObjectUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 数据验证器类
@@ -25,6 +30,8 @@ public class Validator {
 
     public static final String ATTRIBUTE_OF_DATA = "*";
 
+    public static final String BUDGET_EXCEEDED_MESSAGE = "validation.budget_exceeded";
+
     /**
      * 字段级验证器列表
      */
@@ -50,11 +57,146 @@ public class Validator {
      */
     private boolean abort;
 
+    /**
+     * 是否仅保存紧凑验证失败结果，验证失败消息在获取时渲染
+     */
+    private boolean compact;
+
+    /**
+     * 区域，未设置时使用 {@link LocaleContextHolder#getLocale()}
+     */
+    private Locale locale;
+
+    /**
+     * 是否跟踪验证
+     */
+    private boolean tracing;
+
+    /**
+     * 数据验证跟踪采样器
+     */
+    private ValidationTrace.Sampler sampler;
+
+    /**
+     * 数据验证跟踪
+     */
+    private ValidationTrace trace;
+
+    /**
+     * 影子验证
+     */
+    private Shadow shadow;
+
+    /**
+     * 验证结果缓存
+     */
+    private ResultCache cache;
+
+    /**
+     * 数据验证器版本，作为验证结果缓存键的一部分
+     */
+    private String version;
+
+    /**
+     * 验证预算
+     */
+    private Budget budget;
+
+    /**
+     * 验证预算计量
+     */
+    private Budget.Meter meter;
+
+    /**
+     * 是否因验证预算耗尽停止验证
+     */
+    private boolean exceeded;
+
+    /**
+     * 当前分组，为 {@code null} 时不按分组筛选
+     */
+    private Set<String> groups;
+
+    /**
+     * 各分组的字段级验证器索引
+     */
+    private Map<Set<String>, int[]> actives;
+
+    /**
+     * 是否使用图模式
+     */
+    private boolean graph;
+
+    /**
+     * 对象图，图模式下重复使用
+     */
+    private ObjectGraph objectGraph;
+
+    /**
+     * 共享验证条件槽位
+     */
+    private final SharedCondition.Slots conditions = new SharedCondition.Slots();
+
+    /**
+     * 是否复用依赖验证字段值未变化的共享验证条件结果
+     */
+    private boolean incremental;
+
+    /**
+     * 验证失败消息总数上限，为 0 时不限制
+     */
+    private int maxErrors;
+
+    /**
+     * 每个验证字段属性的验证失败消息数量上限，为 0 时不限制
+     */
+    private int maxAttributeErrors;
+
+    /**
+     * 是否因验证失败消息数量达到上限停止验证
+     */
+    private boolean truncated;
+
+    /**
+     * 各验证字段属性的验证失败消息数量，按验证规则表中的验证字段属性索引
+     */
+    private int[] attributeErrors;
+
+    /**
+     * 共享验证结果，同一验证字段属性上定义键相等的根验证规则共享一个验证结果
+     */
+    private byte[] outcomes;
+
+    /**
+     * 去重的验证规则数量
+     */
+    private int deduplicated;
+
     /**
      * 验证失败消息
      */
     private final Map<String, List<String>> errors;
 
+    /**
+     * 验证失败消息是否已渲染
+     */
+    private boolean rendered;
+
+    /**
+     * 紧凑验证失败结果
+     */
+    private Violations violations;
+
+    /**
+     * 验证规则表
+     */
+    private Violations.Table table;
+
+    /**
+     * 数据验证上下文
+     */
+    private final ValidationContext context;
+
     /**
      * 验证对象
      */
@@ -66,6 +208,7 @@ public class Validator {
     public Validator() {
         this.fieldValidators = new ArrayList<>();
         this.errors = new HashMap<>();
+        this.context = new ValidationContext(true, null, null);
     }
 
     /**
@@ -142,6 +285,47 @@ public class Validator {
         return this;
     }
 
+    /**
+     * 设置是否使用增量模式，增量模式下依赖的验证字段值与上次执行时相等（{@link Object#equals(Object)}）的共享验证条件复用上次的结果，
+     * 依赖的验证字段值在验证之间不应被原地修改
+     *
+     * @param incremental 是否使用增量模式
+     * @return 数据验证器
+     */
+    public Validator incremental(boolean incremental) {
+        this.incremental = incremental;
+
+        return this;
+    }
+
+    /**
+     * 设置验证失败消息总数上限，达到上限后停止验证并标记为截断（{@link #truncated()}）
+     *
+     * @param maxErrors 验证失败消息总数上限，为 0 时不限制
+     * @return 数据验证器
+     */
+    public Validator maxErrors(int maxErrors) {
+        Assert.isTrue(maxErrors >= 0, "[maxErrors] must not be negative");
+
+        this.maxErrors = maxErrors;
+
+        return this;
+    }
+
+    /**
+     * 设置每个验证字段属性的验证失败消息数量上限，验证字段属性达到上限后不再执行其验证规则并标记为截断（{@link #truncated()}）
+     *
+     * @param maxAttributeErrors 每个验证字段属性的验证失败消息数量上限，为 0 时不限制
+     * @return 数据验证器
+     */
+    public Validator maxAttributeErrors(int maxAttributeErrors) {
+        Assert.isTrue(maxAttributeErrors >= 0, "[maxAttributeErrors] must not be negative");
+
+        this.maxAttributeErrors = maxAttributeErrors;
+
+        return this;
+    }
+
     /**
      * 设置是否在验证失败后抛出异常
      *
@@ -154,6 +338,135 @@ public class Validator {
         return this;
     }
 
+    /**
+     * 设置是否仅保存紧凑验证失败结果
+     *
+     * @param compact 是否仅保存紧凑验证失败结果
+     * @return 数据验证器
+     */
+    public Validator compact(boolean compact) {
+        this.compact = compact;
+
+        return this;
+    }
+
+    /**
+     * 设置区域
+     *
+     * @param locale 区域
+     * @return 数据验证器
+     */
+    public Validator locale(@Nullable Locale locale) {
+        this.locale = locale;
+
+        return this;
+    }
+
+    /**
+     * 设置是否跟踪验证
+     *
+     * @param tracing 是否跟踪验证
+     * @return 数据验证器
+     */
+    public Validator tracing(boolean tracing) {
+        this.tracing = tracing;
+
+        return this;
+    }
+
+    /**
+     * 设置数据验证跟踪采样器，未设置跟踪验证时按采样结果跟踪
+     *
+     * @param sampler 数据验证跟踪采样器
+     * @return 数据验证器
+     */
+    public Validator sampler(@Nullable ValidationTrace.Sampler sampler) {
+        this.sampler = sampler;
+
+        return this;
+    }
+
+    /**
+     * 设置影子验证，验证后按采样结果将验证对象交给候选数据验证器在后台再次验证，不影响验证结果；预算耗尽时不提交
+     *
+     * @param shadow 影子验证
+     * @return 数据验证器
+     */
+    public Validator shadow(@Nullable Shadow shadow) {
+        this.shadow = shadow;
+
+        return this;
+    }
+
+    /**
+     * 设置验证结果缓存
+     * <p>
+     * 未设置版本（{@link #version(String)}）、跟踪验证、图模式（验证对象可能存在环，无法计算指纹）
+     * 或存在不确定的验证规则时不使用缓存；缓存保存紧凑验证失败结果，命中时按本数据验证器的验证规则表恢复，
+     * 字段级验证器不保存验证结果。验证条件（数据验证器、字段级验证器及共享验证条件）不标记是否确定，
+     * 使用缓存时应仅由验证对象决定。
+     *
+     * @param cache 验证结果缓存
+     * @return 数据验证器
+     */
+    public Validator cache(@Nullable ResultCache cache) {
+        this.cache = cache;
+
+        return this;
+    }
+
+    /**
+     * 设置数据验证器版本，验证规则变化时应同时变化；未设置版本时不使用验证结果缓存
+     *
+     * @param version 数据验证器版本
+     * @return 数据验证器
+     */
+    public Validator version(@Nullable String version) {
+        this.version = version;
+
+        return this;
+    }
+
+    /**
+     * 设置验证预算，预算耗尽时停止验证并以 {@link #ATTRIBUTE_OF_DATA} 记录验证失败消息，
+     * 在验证失败后抛出异常时抛出 {@link BudgetExceededException}
+     *
+     * @param budget 验证预算
+     * @return 数据验证器
+     */
+    public Validator budget(@Nullable Budget budget) {
+        this.budget = budget;
+
+        return this;
+    }
+
+    /**
+     * 设置当前分组，仅执行属于当前分组的字段级验证器及其根验证规则，未设置分组的字段级验证器及验证规则属于全部分组；
+     * 为空时不按分组筛选。每个分组组合的字段级验证器及验证规则在首次使用时确定并缓存
+     *
+     * @param groups 当前分组
+     * @return 数据验证器
+     */
+    public Validator groups(@NonNull String... groups) {
+        Assert.noNullElements(groups, "[groups] must not contain any null elements");
+
+        this.groups = groups.length == 0 ? null : Set.copyOf(Arrays.asList(groups));
+
+        return this;
+    }
+
+    /**
+     * 设置是否使用图模式，图模式下一次验证中级联验证规则按对象标识复用验证结果并检测环
+     *
+     * @param graph 是否使用图模式
+     * @return 数据验证器
+     */
+    public Validator graph(boolean graph) {
+        this.graph = graph;
+
+        return this;
+    }
+
     /**
      * 字段级验证器列表
      *
@@ -190,6 +503,51 @@ public class Validator {
         return this.bail;
     }
 
+    /**
+     * 是否使用增量模式
+     *
+     * @return 是否使用增量模式
+     */
+    public boolean incremental() {
+        return this.incremental;
+    }
+
+    /**
+     * 最近一次验证执行共享验证条件的次数，不包括复用的结果
+     *
+     * @return 共享验证条件执行次数
+     */
+    public int conditionEvaluations() {
+        return this.conditions.evaluations();
+    }
+
+    /**
+     * 验证失败消息总数上限
+     *
+     * @return 验证失败消息总数上限，为 0 时不限制
+     */
+    public int maxErrors() {
+        return this.maxErrors;
+    }
+
+    /**
+     * 每个验证字段属性的验证失败消息数量上限
+     *
+     * @return 每个验证字段属性的验证失败消息数量上限，为 0 时不限制
+     */
+    public int maxAttributeErrors() {
+        return this.maxAttributeErrors;
+    }
+
+    /**
+     * 是否因验证失败消息数量达到上限停止验证，此时验证失败消息不完整
+     *
+     * @return 是否截断
+     */
+    public boolean truncated() {
+        return this.truncated;
+    }
+
     /**
      * 是否在验证失败后抛出异常
      *
@@ -199,15 +557,162 @@ public class Validator {
         return this.abort;
     }
 
+    /**
+     * 是否仅保存紧凑验证失败结果
+     *
+     * @return 是否仅保存紧凑验证失败结果
+     */
+    public boolean compact() {
+        return this.compact;
+    }
+
+    /**
+     * 区域
+     *
+     * @return 区域
+     */
+    public Locale locale() {
+        return this.locale;
+    }
+
+    /**
+     * 是否跟踪验证
+     *
+     * @return 是否跟踪验证
+     */
+    public boolean tracing() {
+        return this.tracing;
+    }
+
+    /**
+     * 数据验证跟踪采样器
+     *
+     * @return 数据验证跟踪采样器
+     */
+    public ValidationTrace.Sampler sampler() {
+        return this.sampler;
+    }
+
+    /**
+     * 验证结果缓存
+     *
+     * @return 验证结果缓存
+     */
+    public ResultCache cache() {
+        return this.cache;
+    }
+
+    /**
+     * 影子验证
+     *
+     * @return 影子验证
+     */
+    public Shadow shadow() {
+        return this.shadow;
+    }
+
+    /**
+     * 数据验证器版本
+     *
+     * @return 数据验证器版本
+     */
+    public String version() {
+        return this.version;
+    }
+
+    /**
+     * 验证预算
+     *
+     * @return 验证预算
+     */
+    public Budget budget() {
+        return this.budget;
+    }
+
+    /**
+     * 当前分组
+     *
+     * @return 当前分组
+     */
+    public Set<String> groups() {
+        return this.groups == null ? Collections.emptySet() : this.groups;
+    }
+
+    /**
+     * 是否使用图模式
+     *
+     * @return 是否使用图模式
+     */
+    public boolean graph() {
+        return this.graph;
+    }
+
+    /**
+     * 最近一次验证的对象图，非图模式时为 {@code null}
+     *
+     * @return 对象图
+     */
+    public ObjectGraph objectGraph() {
+        return this.graph ? this.objectGraph : null;
+    }
+
+    /**
+     * 去重的验证规则数量，即同一验证字段属性上定义键相等的根验证规则中每次验证不再重复执行的数量，验证规则变更后在下次验证时重新计算
+     *
+     * @return 去重的验证规则数量
+     */
+    public int deduplicated() {
+        return this.deduplicated;
+    }
+
+    /**
+     * 是否因验证预算耗尽停止验证
+     *
+     * @return 是否因验证预算耗尽停止验证
+     */
+    public boolean exceeded() {
+        return this.exceeded;
+    }
+
+    /**
+     * 数据验证跟踪，未跟踪时为 {@code null}
+     *
+     * @return 数据验证跟踪
+     */
+    public ValidationTrace trace() {
+        return this.trace;
+    }
+
     /**
      * 验证失败消息
      *
      * @return 验证失败消息
      */
     public Map<String, List<String>> errors() {
+        if (!this.rendered) {
+            this.rendered = true;
+
+            if (this.violations != null) {
+                this.violations.errors().forEach(
+                        (attribute, messages) -> this.errors.computeIfAbsent(attribute, (key) -> new ArrayList<>())
+                                .addAll(messages)
+                );
+            }
+        }
+
         return this.errors;
     }
 
+    /**
+     * 紧凑验证失败结果，验证结果缓存命中时为缓存的验证失败结果；不包括验证预算耗尽消息，预算耗尽见 {@link #exceeded()}。
+     * 仅在紧凑模式或使用验证结果缓存时保存，否则为 {@code null}
+     *
+     * @return 紧凑验证失败结果
+     */
+    public Violations violations() {
+        return this.violations;
+    }
+
     /**
      * 验证失败消息
      *
@@ -215,7 +720,7 @@ public class Validator {
      * @return 验证失败消息
      */
     public List<String> errors(String attribute) {
-        return this.errors.getOrDefault(attribute, new ArrayList<>());
+        return this.errors().getOrDefault(attribute, new ArrayList<>());
     }
 
     /**
@@ -224,6 +729,10 @@ public class Validator {
      * @return 是否验证失败
      */
     public boolean failed() {
+        if (!this.rendered && this.violations != null && !this.violations.isEmpty()) {
+            return true;
+        }
+
         return !this.errors().isEmpty();
     }
 
@@ -237,83 +746,384 @@ public class Validator {
         return !this.errors(attribute).isEmpty();
     }
 
-    /**
-     * 验证对象
-     *
-     * @return 验证对象
-     */
-    public Object data() {
-        return this.data;
-    }
+    /**
+     * 验证对象
+     *
+     * @return 验证对象
+     */
+    public Object data() {
+        return this.data;
+    }
+
+    /**
+     * 验证数据
+     *
+     * @param data 验证对象
+     */
+    public void validate(Object data) {
+        this.data = data;
+
+        this.validate();
+    }
+
+    /**
+     * 重置验证结果，清空验证失败消息及对验证对象的引用，保留配置、验证规则程序、验证规则表及验证字段值快照以重复使用
+     *
+     * @return 数据验证器
+     */
+    public Validator reset() {
+        this.data = null;
+        this.errors.clear();
+        this.rendered = true;
+        this.violations = null;
+        this.trace = null;
+        this.exceeded = false;
+        this.truncated = false;
+        this.conditions.clear();
+
+        if (this.context.snapshot != null) {
+            this.context.snapshot.reset(null);
+        }
+
+        if (this.objectGraph != null) {
+            this.objectGraph.clear();
+        }
+
+        for (FieldValidator<?> fieldValidator : this.fieldValidators) {
+            fieldValidator.reset();
+        }
+
+        return this;
+    }
+
+    /**
+     * 验证数据
+     */
+    private void validate() {
+        long started = this.shadow != null ? System.nanoTime() : 0;
+
+        this.errors.clear();
+        this.rendered = !this.compact;
+
+        if (this.table == null || !this.table.matches(this.fieldValidators)) {
+            this.table = new Violations.Table(this.fieldValidators);
+            this.actives = null;
+            this.attributeErrors = new int[this.table.attributes()];
+
+            this.share();
+        }
+
+        ValidationContext context = this.context;
+
+        if (context.snapshot == null || !context.snapshot.matches(this.fieldValidators)) {
+            context.snapshot = new Snapshot(this.fieldValidators);
+        }
+
+        context.snapshot.reset(this.data);
+        context.render = !this.compact;
+        context.locale = this.locale != null ? this.locale : LocaleContextHolder.getLocale();
+        context.meter = null;
+        context.groups = this.groups;
+        context.graph = null;
+        context.outcomes = this.outcomes;
+        context.conditions = this.conditions;
+
+        this.conditions.reset(this.incremental);
+
+        Arrays.fill(this.outcomes, (byte) 0);
+
+        if (this.graph) {
+            if (this.objectGraph == null) {
+                this.objectGraph = new ObjectGraph();
+            }
+
+            this.objectGraph.clear();
+
+            context.graph = this.objectGraph;
+        }
+
+        if (this.budget != null && !this.budget.unlimited()) {
+            if (this.meter == null) {
+                this.meter = new Budget.Meter();
+            }
+
+            this.meter.reset(this.budget);
+
+            context.meter = this.meter;
+        }
+
+        this.exceeded = false;
+        this.truncated = false;
+
+        Violations violations = this.compact ? new Violations(this.table, context.locale) : null;
+
+        this.violations = violations;
+        this.trace = this.tracing || (this.sampler != null && this.sampler.sample()) ? new ValidationTrace() : null;
+
+        ValidationTrace.Node root = this.trace != null ? this.trace.root() : null;
+        boolean accepted = this.condition == null;
+
+        if (!accepted) {
+            ValidationTrace.Node node = root != null ? root.start("condition", null) : null;
+
+            accepted = this.condition.accept(this.data);
+
+            if (node != null) {
+                node.end(accepted);
+            }
+        }
+
+        if (accepted) {
+            HashCode key = root == null && this.cache != null && this.version != null && !this.graph
+                    && this.deterministic() ? this.cache.key(this.data, this.version, context.locale, this.groups) : null;
+            Violations cached = key != null ? this.cache.get(key, this.table) : null;
+
+            if (cached != null) {
+                this.violations = cached;
+
+                if (!this.compact) {
+                    this.rendered = false;
+                    this.errors();
+                }
+            } else {
+                if (violations == null && key != null) {
+                    violations = new Violations(this.table, context.locale);
+
+                    this.violations = violations;
+                }
+
+                this.validate(context, violations, root);
+
+                if (violations != null) {
+                    violations.trim();
+                }
+
+                if (this.exceeded) {
+                    logger.debug("validation budget [{}] exceeded", context.meter.exceeded());
+
+                    this.errors.computeIfAbsent(ATTRIBUTE_OF_DATA, (attribute) -> new ArrayList<>()).add(
+                            Messages.render(BUDGET_EXCEEDED_MESSAGE, context.locale, this.data, this)
+                    );
+                } else if (key != null && !this.truncated) {
+                    this.cache.put(key, violations);
+                }
+            }
+        }
+
+        if (root != null) {
+            root.end(!this.failed());
+        }
+
+        if (accepted) {
+            if (this.shadow != null && !this.exceeded && !this.truncated && this.shadow.sample()) {
+                long elapsed = System.nanoTime() - started;
+
+                this.shadow.submit(this.data, this.groups(), Set.copyOf(this.errors().keySet()), elapsed);
+            }
+
+            if (this.callback != null) {
+                this.callback.call(this);
+            }
+
+            if (this.abort && this.exceeded) {
+                throw BudgetExceededException.make(new HashMap<>(this.errors()), this.truncated);
+            }
+
+            if (this.abort && this.failed()) {
+                throw ValidationException.make(new HashMap<>(this.errors()), this.truncated);
+            }
+        }
+    }
+
+    /**
+     * 执行字段级验证器
+     *
+     * @param context    数据验证上下文
+     * @param violations 紧凑验证失败结果，为 {@code null} 时不保存
+     * @param root       数据验证跟踪根节点
+     */
+    private void validate(ValidationContext context, Violations violations, ValidationTrace.Node root) {
+        int[] actives = this.actives(context.groups);
+        int[] attributeErrors = this.attributeErrors;
+        int maxErrors = this.maxErrors > 0 ? this.maxErrors : Integer.MAX_VALUE;
+        int maxAttributeErrors = this.maxAttributeErrors > 0 ? this.maxAttributeErrors : Integer.MAX_VALUE;
+        int errors = 0;
+
+        Arrays.fill(attributeErrors, 0);
+
+        for (int k = 0; k < actives.length; k++) {
+            int i = actives[k];
+            FieldValidator<?> validator = this.fieldValidators.get(i);
+            int attribute = this.table.attribute(i);
+            int limit = Math.min(maxErrors - errors, maxAttributeErrors - attributeErrors[attribute]);
+
+            if (limit <= 0) {
+                this.truncated = true;
+
+                if (root != null) {
+                    root.skip("fieldValidator", validator.errorAttribute(), ValidationTrace.Node.TRUNCATED);
+                }
+
+                continue;
+            }
+
+            ValidationTrace.Node node = root != null ? root.start("fieldValidator", validator.errorAttribute()) : null;
+
+            context.limit = limit;
+
+            validator.validate(context.snapshot.value(i), context, node);
+
+            if (node != null) {
+                node.end(!validator.failed());
+            }
+
+            if (validator.failed()) {
+                errors += validator.failedCount();
+                attributeErrors[attribute] += validator.failedCount();
+                this.truncated |= validator.truncated();
+
+                for (int j = 0; violations != null && j < validator.executed(); j++) {
+                    if (validator.failed(j)) {
+                        int index = validator.index(j);
+                        Rule<?, ?> rule = validator.rules().get(index);
+
+                        violations.add(this.table.rule(i, index), rule.failedMessageKey(), rule.data());
+                    }
+                }
+
+                if (!this.compact) {
+                    this.errors.computeIfAbsent(validator.errorAttribute(), (key) -> new ArrayList<>())
+                            .addAll(validator.errors());
+                }
+
+                if (this.bail) {
+                    for (int j = k + 1; root != null && j < actives.length; j++) {
+                        root.skip(
+                                "fieldValidator", this.fieldValidators.get(actives[j]).errorAttribute(),
+                                ValidationTrace.Node.BAIL
+                        );
+                    }
+
+                    break;
+                }
+            }
+
+            if (context.meter != null && context.meter.exceeded() != null) {
+                this.exceeded = true;
 
-    /**
-     * 验证数据
-     *
-     * @param data 验证对象
-     */
-    public void validate(Object data) {
-        this.data = data;
+                for (int j = k + 1; root != null && j < actives.length; j++) {
+                    root.skip(
+                            "fieldValidator", this.fieldValidators.get(actives[j]).errorAttribute(),
+                            ValidationTrace.Node.BUDGET
+                    );
+                }
 
-        this.validate();
+                break;
+            }
+        }
     }
 
     /**
-     * 验证数据
+     * 查找同一验证字段属性上定义键相等的根验证规则，为其分配共享验证结果
      */
-    private void validate() {
-        this.errors.clear();
+    private void share() {
+        Map<List<Object>, Integer> counts = new HashMap<>();
+
+        for (FieldValidator<?> fieldValidator : this.fieldValidators) {
+            for (Rule<?, ?> rule : fieldValidator.rules()) {
+                Object key = rule.definitionKey();
+
+                if (key != null) {
+                    counts.merge(List.of(fieldValidator.attribute(), key), 1, Integer::sum);
+                }
+            }
+        }
 
-        if (this.condition == null || this.condition.accept(this.data)) {
-            for (FieldValidator<?> validator : this.fieldValidators) {
-                validator.validate(this.getValue(validator.attribute()));
+        Map<List<Object>, Integer> ids = new HashMap<>();
 
-                if (validator.failed()) {
-                    String attribute = ObjectUtils.defaultIfNull(validator.customAttribute(), validator.attribute());
+        for (FieldValidator<?> fieldValidator : this.fieldValidators) {
+            List<? extends Rule<?, ?>> rules = fieldValidator.rules();
+            int[] shared = new int[rules.size()];
 
-                    if (!this.errors.containsKey(attribute)) {
-                        this.errors.put(attribute, new ArrayList<>());
-                    }
+            for (int j = 0; j < shared.length; j++) {
+                Object key = rules.get(j).definitionKey();
+                List<Object> definition = key != null ? List.of(fieldValidator.attribute(), key) : null;
 
-                    this.errors.get(attribute).addAll(validator.errors());
+                if (definition == null || counts.get(definition) < 2) {
+                    shared[j] = -1;
+                } else {
+                    Integer id = ids.get(definition);
 
-                    if (this.bail) {
-                        break;
+                    if (id == null) {
+                        id = ids.size();
+
+                        ids.put(definition, id);
                     }
+
+                    shared[j] = id;
                 }
             }
 
-            if (this.callback != null) {
-                this.callback.call(this);
-            }
+            fieldValidator.share(shared);
+        }
 
-            if (this.abort && this.failed()) {
-                throw ValidationException.make(this.errors());
-            }
+        this.outcomes = new byte[ids.size()];
+        this.deduplicated = 0;
+
+        for (int count : counts.values()) {
+            this.deduplicated += count - 1;
+        }
+
+        if (this.deduplicated > 0) {
+            logger.debug("deduplicated [{}] rules into [{}] shared outcomes", this.deduplicated, ids.size());
         }
     }
 
     /**
-     * 获取验证字段值
+     * 属于分组的字段级验证器索引
      *
-     * @param attribute 验证字段属性
-     * @return 验证字段值
+     * @param groups 分组，为 {@code null} 时不按分组筛选
+     * @return 字段级验证器索引
      */
-    private Object getValue(String attribute) {
-        if (ATTRIBUTE_OF_DATA.equals(attribute) || this.data == null) {
-            return this.data;
+    private int[] actives(Set<String> groups) {
+        if (this.actives == null) {
+            this.actives = new HashMap<>();
         }
 
-        if (this.data instanceof Map) {
-            return ((Map<?, ?>) this.data).get(attribute);
-        } else {
-            try {
-                return new DirectFieldAccessor(this.data).getPropertyValue(attribute);
-            } catch (Exception e) {
-                logger.debug("get value failed", e);
+        int[] actives = this.actives.get(groups);
+
+        if (actives == null) {
+            List<Integer> indexes = new ArrayList<>();
+
+            for (int i = 0; i < this.fieldValidators.size(); i++) {
+                if (this.fieldValidators.get(i).active(groups)) {
+                    indexes.add(i);
+                }
+            }
+
+            actives = indexes.stream().mapToInt(Integer::intValue).toArray();
+
+            this.actives.put(groups, actives);
+        }
+
+        return actives;
+    }
 
-                return null;
+    /**
+     * 全部验证规则是否确定，验证条件视为确定
+     *
+     * @return 是否确定
+     */
+    private boolean deterministic() {
+        for (FieldValidator<?> fieldValidator : this.fieldValidators) {
+            for (Rule<?, ?> rule : fieldValidator.rules()) {
+                if (!rule.deterministic()) {
+                    return false;
+                }
             }
         }
+
+        return true;
     }
 
     /**
@@ -333,6 +1143,8 @@ public class Validator {
 
     /**
      * 数据验证条件接口
+     * <p>
+     * 使用验证结果缓存时结果应仅由验证对象决定，否则缓存命中时可能复用不同验证条件下的验证结果。
      *
      * @param <T> 验证对象类型
      */
@@ -378,6 +1190,11 @@ public class Validator {
          */
         private ConditionClosure<T> condition;
 
+        /**
+         * 共享验证条件
+         */
+        private SharedCondition sharedCondition;
+
         /**
          * 是否在首次验证失败后停止验证
          */
@@ -393,6 +1210,46 @@ public class Validator {
          */
         private T value;
 
+        /**
+         * 分组，为空时属于全部分组
+         */
+        private Set<String> groups;
+
+        /**
+         * 分组修订号，设置分组时递增，数据验证器据此重新筛选字段级验证器
+         */
+        private int revision;
+
+        /**
+         * 各分组的验证规则子集
+         */
+        private Map<Set<String>, Subset<T>> subsets;
+
+        /**
+         * 本次验证的验证规则子集
+         */
+        private Subset<T> subset;
+
+        /**
+         * 验证规则的共享验证结果索引，为负数时不共享；为 {@code null} 时全部不共享
+         */
+        private int[] shared;
+
+        /**
+         * 已执行的验证规则数量
+         */
+        private int executed;
+
+        /**
+         * 验证失败的验证规则数量
+         */
+        private int failedCount;
+
+        /**
+         * 是否因验证失败消息数量达到上限停止验证
+         */
+        private boolean truncated;
+
         /**
          * 构造
          */
@@ -400,6 +1257,7 @@ public class Validator {
             this.attribute = DEFAULT_ATTRIBUTE;
             this.rules = new ArrayList<>();
             this.errors = new ArrayList<>();
+            this.groups = Collections.emptySet();
         }
 
         /**
@@ -448,6 +1306,7 @@ public class Validator {
             Assert.notNull(rule, "[rule] must not be null");
 
             this.rules.add(rule);
+            this.subsets = null;
 
             return this;
         }
@@ -463,6 +1322,7 @@ public class Validator {
             Assert.noNullElements(rules, "[rules] must not contain any null elements");
 
             this.rules.addAll(rules);
+            this.subsets = null;
 
             return this;
         }
@@ -479,6 +1339,18 @@ public class Validator {
             return this;
         }
 
+        /**
+         * 设置共享验证条件，与验证条件同时设置时须同时符合，共享验证条件先执行
+         *
+         * @param sharedCondition 共享验证条件
+         * @return 字段级数据验证器
+         */
+        public FieldValidator<T> sharedCondition(@Nullable SharedCondition sharedCondition) {
+            this.sharedCondition = sharedCondition;
+
+            return this;
+        }
+
         /**
          * 设置是否在首次验证失败后停止验证
          *
@@ -491,6 +1363,22 @@ public class Validator {
             return this;
         }
 
+        /**
+         * 设置分组
+         *
+         * @param groups 分组
+         * @return 字段级数据验证器
+         */
+        public FieldValidator<T> groups(@NonNull String... groups) {
+            Assert.noNullElements(groups, "[groups] must not contain any null elements");
+
+            this.groups = Set.copyOf(Arrays.asList(groups));
+            this.revision++;
+            this.subsets = null;
+
+            return this;
+        }
+
         /**
          * 验证字段属性
          *
@@ -527,6 +1415,15 @@ public class Validator {
             return this.condition;
         }
 
+        /**
+         * 共享验证条件
+         *
+         * @return 共享验证条件
+         */
+        public SharedCondition sharedCondition() {
+            return this.sharedCondition;
+        }
+
         /**
          * 是否在首次验证失败后停止验证
          *
@@ -536,12 +1433,31 @@ public class Validator {
             return this.bail;
         }
 
+        /**
+         * 分组
+         *
+         * @return 分组
+         */
+        public Set<String> groups() {
+            return this.groups;
+        }
+
         /**
          * 验证失败消息
          *
          * @return 验证失败消息
          */
         public List<String> errors() {
+            if (this.errors.size() < this.failedCount) {
+                this.errors.clear();
+
+                for (int i = 0; i < this.executed; i++) {
+                    if (this.subset.failures[i]) {
+                        this.errors.add(this.rules.get(this.subset.indexes[i]).failedMessage());
+                    }
+                }
+            }
+
             return this.errors;
         }
 
@@ -560,16 +1476,132 @@ public class Validator {
          * @return 是否验证失败
          */
         public boolean failed() {
-            return !this.errors.isEmpty();
+            return this.failedCount > 0;
+        }
+
+        /**
+         * 验证失败的验证规则数量
+         *
+         * @return 验证失败的验证规则数量
+         */
+        int failedCount() {
+            return this.failedCount;
+        }
+
+        /**
+         * 是否因验证失败消息数量达到上限停止验证
+         *
+         * @return 是否截断
+         */
+        boolean truncated() {
+            return this.truncated;
+        }
+
+        /**
+         * 验证失败时使用的验证字段属性
+         *
+         * @return 验证字段属性
+         */
+        String errorAttribute() {
+            return ObjectUtils.defaultIfNull(this.customAttribute, this.attribute);
+        }
+
+        /**
+         * 是否属于分组
+         *
+         * @param groups 分组，为 {@code null} 时不按分组筛选
+         * @return 是否属于分组
+         */
+        boolean active(Set<String> groups) {
+            return groups == null || this.groups.isEmpty() || !Collections.disjoint(this.groups, groups);
+        }
+
+        /**
+         * 分组修订号
+         *
+         * @return 分组修订号
+         */
+        int revision() {
+            return this.revision;
+        }
+
+        /**
+         * 设置验证规则的共享验证结果索引，变更时重新编译验证规则子集
+         *
+         * @param shared 验证规则的共享验证结果索引，为负数时不共享
+         */
+        void share(int[] shared) {
+            if (!Arrays.equals(this.shared, shared)) {
+                this.shared = shared;
+                this.subsets = null;
+            }
+        }
+
+        /**
+         * 已执行的验证规则数量
+         *
+         * @return 已执行的验证规则数量
+         */
+        int executed() {
+            return this.executed;
+        }
+
+        /**
+         * 已执行的验证规则在验证规则列表中的索引
+         *
+         * @param index 已执行的验证规则索引
+         * @return 验证规则索引
+         */
+        int index(int index) {
+            return this.subset.indexes[index];
+        }
+
+        /**
+         * 已执行的验证规则是否验证失败
+         *
+         * @param index 已执行的验证规则索引
+         * @return 是否验证失败
+         */
+        boolean failed(int index) {
+            return index < this.executed && this.subset.failures[index];
         }
 
         /**
          * 验证数据
+         * <p>
+         * 单独验证时没有验证对象，包含跨字段验证规则或共享验证条件时抛出 {@link IllegalStateException}，
+         * 应由数据验证器验证。
          *
          * @param value 验证字段值
          */
-        @SuppressWarnings("unchecked")
         public void validate(Object value) {
+            this.validate(value, new ValidationContext(true, null, LocaleContextHolder.getLocale()), null);
+        }
+
+        /**
+         * 重置验证结果
+         */
+        void reset() {
+            this.value = null;
+            this.errors.clear();
+            this.executed = 0;
+            this.failedCount = 0;
+            this.truncated = false;
+
+            for (Rule<? super T, ?> rule : this.rules) {
+                rule.reset();
+            }
+        }
+
+        /**
+         * 验证数据
+         *
+         * @param value   验证字段值
+         * @param context 数据验证上下文
+         * @param node    数据验证跟踪节点，为 {@code null} 时不跟踪
+         */
+        @SuppressWarnings("unchecked")
+        void validate(Object value, ValidationContext context, ValidationTrace.Node node) {
             try {
                 this.value = (T) value;
             } catch (Exception e) {
@@ -580,28 +1612,204 @@ public class Validator {
                 );
             }
 
-            this.validate();
+            this.validate(context, node);
         }
 
         /**
          * 验证数据
+         *
+         * @param context 数据验证上下文
+         * @param node    数据验证跟踪节点
          */
-        private void validate() {
+        private void validate(ValidationContext context, ValidationTrace.Node node) {
             this.errors.clear();
+            this.executed = 0;
+            this.failedCount = 0;
+            this.truncated = false;
+
+            boolean accepted = true;
+
+            if (this.sharedCondition != null) {
+                if (context.conditions == null) {
+                    throw new IllegalStateException("[" + this.sharedCondition + "] must be evaluated by a validator");
+                }
+
+                ValidationTrace.Node conditionNode = node != null
+                        ? node.start("condition", this.sharedCondition.name())
+                        : null;
+
+                accepted = context.conditions.accept(this.sharedCondition, context.snapshot);
+
+                if (conditionNode != null) {
+                    conditionNode.end(accepted);
+                }
+            }
+
+            if (accepted && this.condition != null) {
+                ValidationTrace.Node conditionNode = node != null ? node.start("condition", null) : null;
+
+                accepted = this.condition.accept(this.value);
+
+                if (conditionNode != null) {
+                    conditionNode.end(accepted);
+                }
+            }
 
-            if (this.condition == null || this.condition.accept(this.value)) {
-                for (Rule<? super T, ?> rule : this.rules) {
-                    rule.validate(this.value);
+            if (accepted) {
+                Subset<T> subset = this.subset = this.subset(context.groups);
+
+                if (context.snapshot == null && subset.program.crossField()) {
+                    throw new IllegalStateException(
+                            "[" + this.attribute + "] has cross-field rules and must be validated by a validator"
+                    );
+                }
+
+                subset.program.bind(context.snapshot, this.attribute);
+                subset.program.bind(context.graph);
+                subset.program.bind(context.meter);
+                subset.program.bind(context.outcomes);
+
+                int limit = this.bail ? 1 : Integer.MAX_VALUE;
+
+                this.executed = subset.program.execute(
+                        this.value, Math.min(limit, context.limit), subset.failures,
+                        node != null ? subset.nanos : null, context.meter
+                );
+
+                for (int i = 0; i < this.executed; i++) {
+                    Rule<? super T, ?> rule = this.rules.get(subset.indexes[i]);
+
+                    rule.result(this.value, subset.failures[i], context.locale);
+
+                    if (node != null) {
+                        node.add("rule", rule.getClass().getSimpleName(), subset.nanos[i], !subset.failures[i]);
+                    }
 
                     if (rule.failed()) {
-                        this.errors.add(rule.failedMessage());
+                        this.failedCount++;
+
+                        if (context.render) {
+                            ValidationTrace.Node renderNode = node != null
+                                    ? node.start("render", rule.getClass().getSimpleName())
+                                    : null;
+
+                            this.errors.add(rule.failedMessage());
 
-                        if (this.bail) {
-                            break;
+                            if (renderNode != null) {
+                                renderNode.end(null);
+                            }
                         }
                     }
                 }
+
+                this.truncated = context.limit < limit && this.failedCount >= context.limit
+                        && this.executed < subset.indexes.length;
+
+                if (node != null && this.executed < subset.indexes.length) {
+                    String reason = context.meter != null && context.meter.exceeded() != null
+                            ? ValidationTrace.Node.BUDGET
+                            : this.truncated ? ValidationTrace.Node.TRUNCATED : ValidationTrace.Node.BAIL;
+
+                    for (int i = this.executed; i < subset.indexes.length; i++) {
+                        node.skip("rule", this.rules.get(subset.indexes[i]).getClass().getSimpleName(), reason);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 属于分组的验证规则子集，验证规则或验证规则的分组变更后重新编译
+         *
+         * @param groups 分组，为 {@code null} 时不按分组筛选
+         * @return 验证规则子集
+         */
+        private Subset<T> subset(Set<String> groups) {
+            if (this.subsets == null) {
+                this.subsets = new HashMap<>();
+            }
+
+            Subset<T> subset = this.subsets.get(groups);
+            int revision = 0;
+
+            for (Rule<? super T, ?> rule : this.rules) {
+                revision += rule.revision();
+            }
+
+            if (subset == null || subset.total != this.rules.size() || subset.revision != revision) {
+                subset = new Subset<>(this.rules, groups, this.shared, revision);
+
+                this.subsets.put(groups, subset);
+            }
+
+            return subset;
+        }
+
+    }
+
+    /**
+     * 验证规则子集
+     *
+     * @param <T> 验证字段类型
+     */
+    private static final class Subset<T> {
+
+        /**
+         * 验证规则总数量
+         */
+        private final int total;
+
+        /**
+         * 验证规则分组修订号之和
+         */
+        private final int revision;
+
+        /**
+         * 验证规则索引
+         */
+        private final int[] indexes;
+
+        /**
+         * 验证规则程序
+         */
+        private final RuleProgram<T> program;
+
+        /**
+         * 验证规则是否验证失败
+         */
+        private final boolean[] failures;
+
+        /**
+         * 验证规则耗时（纳秒）
+         */
+        private final long[] nanos;
+
+        /**
+         * 构造
+         *
+         * @param rules    验证规则列表
+         * @param groups   分组，为 {@code null} 时不按分组筛选
+         * @param shared   验证规则的共享验证结果索引，为 {@code null} 时全部不共享
+         * @param revision 验证规则分组修订号之和
+         */
+        private Subset(List<Rule<? super T, ?>> rules, Set<String> groups, int[] shared, int revision) {
+            List<Rule<? super T, ?>> actives = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+
+            for (int i = 0; i < rules.size(); i++) {
+                if (rules.get(i).active(groups)) {
+                    actives.add(rules.get(i));
+                    indexes.add(i);
+                }
             }
+
+            this.total = rules.size();
+            this.revision = revision;
+            this.indexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+            this.program = shared != null && shared.length == rules.size()
+                    ? RuleProgram.compile(actives, Arrays.stream(this.indexes).map((index) -> shared[index]).toArray())
+                    : RuleProgram.compile(actives);
+            this.failures = new boolean[actives.size()];
+            this.nanos = new long[actives.size()];
         }
 
     }
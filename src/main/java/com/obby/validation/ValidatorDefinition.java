@@ -0,0 +1,30 @@
+package com.obby.validation;
+
+/**
+ * 数据验证器定义接口
+ *
+ * @author obby-xiang
+ * @since 2021-02-03
+ */
+@FunctionalInterface
+public interface ValidatorDefinition {
+
+    /**
+     * 创建数据验证器
+     *
+     * @return 数据验证器
+     */
+    Validator define();
+
+    /**
+     * 当前数据验证器定义
+     * <p>
+     * 可热加载的定义返回最新编译的定义，调用方据此判断已创建的数据验证器是否过期。
+     *
+     * @return 当前数据验证器定义
+     */
+    default ValidatorDefinition current() {
+        return this;
+    }
+
+}
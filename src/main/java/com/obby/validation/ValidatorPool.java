@@ -0,0 +1,332 @@
+package com.obby.validation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 数据验证器池类
+ * <p>
+ * 数据验证器保存验证状态，不能在线程间共享，而每次验证都由验证器定义创建数据验证器会重复分配字段级验证器、验证规则及内部集合。
+ * 数据验证器池由验证器定义创建数据验证器并在验证后重置（{@link Validator#reset()}）以重复使用，
+ * 重置时清空验证结果及对验证对象的引用，保留验证规则程序、验证规则表、验证字段值快照等内部结构。
+ * <p>
+ * 线程模式下每个线程持有一个数据验证器，同一线程嵌套借出时临时创建；
+ * 有界模式下最多保留 {@code capacity} 个空闲数据验证器，池为空时创建，池已满时丢弃。
+ * 验证器定义热加载后，已创建的数据验证器在归还时丢弃。每次借出返回新的借出句柄，
+ * 句柄只能归还一次，重复或过期的关闭不影响之后借出同一数据验证器的句柄。
+ *
+ * @author obby-xiang
+ * @since 2021-02-19
+ */
+public final class ValidatorPool {
+
+    /**
+     * 数据验证器定义
+     */
+    private final ValidatorDefinition definition;
+
+    /**
+     * 线程数据验证器，有界模式下为 {@code null}
+     */
+    private final ThreadLocal<Entry> entries;
+
+    /**
+     * 空闲数据验证器，线程模式下为 {@code null}
+     */
+    private final BlockingQueue<Entry> idle;
+
+    /**
+     * 创建的数据验证器数量
+     */
+    private final AtomicLong created = new AtomicLong();
+
+    /**
+     * 重复使用的数据验证器数量
+     */
+    private final AtomicLong reused = new AtomicLong();
+
+    /**
+     * 数据验证器配置
+     */
+    private UnaryOperator<Validator> configurer = UnaryOperator.identity();
+
+    /**
+     * 构造
+     *
+     * @param definition 数据验证器定义
+     * @param capacity   最大空闲数据验证器数量，为 0 时使用线程模式
+     */
+    private ValidatorPool(ValidatorDefinition definition, int capacity) {
+        Assert.notNull(definition, "[definition] must not be null");
+        Assert.isTrue(capacity >= 0, "[capacity] must not be negative");
+
+        this.definition = definition;
+        this.entries = capacity == 0 ? new ThreadLocal<>() : null;
+        this.idle = capacity == 0 ? null : new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 创建线程数据验证器池
+     *
+     * @param definition 数据验证器定义
+     * @return 数据验证器池
+     */
+    public static ValidatorPool threadLocal(@NonNull ValidatorDefinition definition) {
+        return new ValidatorPool(definition, 0);
+    }
+
+    /**
+     * 创建有界数据验证器池
+     *
+     * @param definition 数据验证器定义
+     * @param capacity   最大空闲数据验证器数量
+     * @return 数据验证器池
+     */
+    public static ValidatorPool bounded(@NonNull ValidatorDefinition definition, int capacity) {
+        Assert.isTrue(capacity > 0, "[capacity] must be positive");
+
+        return new ValidatorPool(definition, capacity);
+    }
+
+    /**
+     * 设置数据验证器配置，创建数据验证器后执行一次，应在借出前设置
+     *
+     * @param configurer 数据验证器配置
+     * @return 数据验证器池
+     */
+    public ValidatorPool configurer(@NonNull UnaryOperator<Validator> configurer) {
+        Assert.notNull(configurer, "[configurer] must not be null");
+
+        this.configurer = configurer;
+
+        return this;
+    }
+
+    /**
+     * 数据验证器定义
+     *
+     * @return 数据验证器定义
+     */
+    public ValidatorDefinition definition() {
+        return this.definition;
+    }
+
+    /**
+     * 创建的数据验证器数量
+     *
+     * @return 创建的数据验证器数量
+     */
+    public long created() {
+        return this.created.get();
+    }
+
+    /**
+     * 重复使用的数据验证器数量
+     *
+     * @return 重复使用的数据验证器数量
+     */
+    public long reused() {
+        return this.reused.get();
+    }
+
+    /**
+     * 空闲数据验证器数量，线程模式下为 0
+     *
+     * @return 空闲数据验证器数量
+     */
+    public int idle() {
+        return this.idle != null ? this.idle.size() : 0;
+    }
+
+    /**
+     * 借出数据验证器，使用后关闭借出以归还
+     *
+     * @return 数据验证器借出
+     */
+    public Lease lease() {
+        ValidatorDefinition current = this.definition.current();
+
+        if (this.entries != null) {
+            Entry entry = this.entries.get();
+
+            if (entry == null || entry.definition != current) {
+                entry = this.create(current);
+
+                this.entries.set(entry);
+            } else if (entry.leased) {
+                return new Lease(this, this.create(current), false);
+            } else {
+                this.reused.incrementAndGet();
+            }
+
+            entry.leased = true;
+
+            return new Lease(this, entry, true);
+        }
+
+        Entry entry;
+
+        while ((entry = this.idle.poll()) != null) {
+            if (entry.definition == current) {
+                this.reused.incrementAndGet();
+
+                return new Lease(this, entry, true);
+            }
+        }
+
+        return new Lease(this, this.create(current), true);
+    }
+
+    /**
+     * 借出数据验证器执行操作后归还
+     *
+     * @param function 操作，数据验证器归还后重置，操作结果不应引用数据验证器
+     * @param <R>      操作结果类型
+     * @return 操作结果
+     */
+    public <R> R apply(@NonNull Function<Validator, R> function) {
+        Assert.notNull(function, "[function] must not be null");
+
+        try (Lease lease = this.lease()) {
+            return function.apply(lease.entry.validator);
+        }
+    }
+
+    /**
+     * 创建池中的数据验证器
+     *
+     * @param definition 数据验证器定义
+     * @return 池中的数据验证器
+     */
+    private Entry create(ValidatorDefinition definition) {
+        this.created.incrementAndGet();
+
+        return new Entry(definition, this.configurer.apply(definition.define()));
+    }
+
+    /**
+     * 归还数据验证器
+     *
+     * @param entry  池中的数据验证器
+     * @param pooled 是否放回池中
+     */
+    private void release(Entry entry, boolean pooled) {
+        entry.validator.reset();
+
+        if (!pooled) {
+            return;
+        }
+
+        entry.leased = false;
+
+        if (this.idle == null || entry.definition != this.definition.current()) {
+            return;
+        }
+
+        this.idle.offer(entry);
+    }
+
+    /**
+     * 数据验证器借出
+     * <p>
+     * 每次借出创建新的句柄，关闭句柄归还数据验证器，重复关闭无效。
+     */
+    public static final class Lease implements AutoCloseable {
+
+        /**
+         * 数据验证器池
+         */
+        private final ValidatorPool pool;
+
+        /**
+         * 池中的数据验证器
+         */
+        private final Entry entry;
+
+        /**
+         * 归还时是否放回池中
+         */
+        private final boolean pooled;
+
+        /**
+         * 是否已归还
+         */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * 构造
+         *
+         * @param pool   数据验证器池
+         * @param entry  池中的数据验证器
+         * @param pooled 归还时是否放回池中
+         */
+        private Lease(ValidatorPool pool, Entry entry, boolean pooled) {
+            this.pool = pool;
+            this.entry = entry;
+            this.pooled = pooled;
+        }
+
+        /**
+         * 数据验证器
+         *
+         * @return 数据验证器
+         */
+        public Validator validator() {
+            Assert.state(!this.released.get(), "validator has been released");
+
+            return this.entry.validator;
+        }
+
+        /**
+         * 归还数据验证器，重复关闭无效
+         */
+        @Override
+        public void close() {
+            if (this.released.compareAndSet(false, true)) {
+                this.pool.release(this.entry, this.pooled);
+            }
+        }
+
+    }
+
+    /**
+     * 池中的数据验证器
+     */
+    private static final class Entry {
+
+        /**
+         * 数据验证器定义
+         */
+        private final ValidatorDefinition definition;
+
+        /**
+         * 数据验证器
+         */
+        private final Validator validator;
+
+        /**
+         * 线程模式下是否已借出
+         */
+        private volatile boolean leased;
+
+        /**
+         * 构造
+         *
+         * @param definition 数据验证器定义
+         * @param validator  数据验证器
+         */
+        private Entry(ValidatorDefinition definition, Validator validator) {
+            this.definition = definition;
+            this.validator = validator;
+        }
+
+    }
+
+}
@@ -0,0 +1,289 @@
+package com.obby.validation;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 多租户数据验证器注册表类
+ * <p>
+ * 将（租户，表单，版本）映射到验证器定义，首次使用时由加载器加载，保存在有最大条目数量的缓存中，
+ * 超出时淘汰最近最少使用的条目，读取按段并发，不会互相阻塞。数据验证器保存验证状态，
+ * 因此每个验证器定义缓存一个有界数据验证器池，{@link #lease(String, String, String)} 由池借出数据验证器，
+ * 使用后关闭借出以归还，验证器定义淘汰时数据验证器池随之丢弃。
+ *
+ * @author obby-xiang
+ * @since 2021-02-13
+ */
+public final class ValidatorRegistry {
+
+    /**
+     * 标识格式
+     */
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9_.-]*");
+
+    /**
+     * 每个验证器定义最多保留的空闲数据验证器数量
+     */
+    private static final int POOL_CAPACITY = 8;
+
+    /**
+     * 验证器定义对应的数据验证器池缓存
+     */
+    private final LoadingCache<Key, ValidatorPool> definitions;
+
+    /**
+     * 构造
+     *
+     * @param loader            验证器定义加载器
+     * @param maximumSize       最大条目数量
+     * @param expireAfterAccess 访问后过期时间，为 {@code null} 时不过期
+     */
+    public ValidatorRegistry(@NonNull Loader loader, long maximumSize, @Nullable Duration expireAfterAccess) {
+        Assert.notNull(loader, "[loader] must not be null");
+        Assert.isTrue(maximumSize > 0, "[maximumSize] must be positive");
+
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats();
+
+        if (expireAfterAccess != null) {
+            builder.expireAfterAccess(expireAfterAccess);
+        }
+
+        this.definitions = builder.build(new CacheLoader<>() {
+            @Override
+            public ValidatorPool load(@NonNull Key key) throws Exception {
+                ValidatorDefinition definition = loader.load(key.tenant, key.form, key.version);
+
+                if (definition == null) {
+                    throw new IllegalStateException("validator definition [" + key + "] not found");
+                }
+
+                return ValidatorPool.bounded(definition, POOL_CAPACITY);
+            }
+        });
+    }
+
+    /**
+     * 创建多租户数据验证器注册表
+     *
+     * @param loader      验证器定义加载器
+     * @param maximumSize 最大条目数量
+     * @return 多租户数据验证器注册表
+     */
+    public static ValidatorRegistry make(@NonNull Loader loader, long maximumSize) {
+        return new ValidatorRegistry(loader, maximumSize, null);
+    }
+
+    /**
+     * 获取验证器定义
+     *
+     * @param tenant  租户
+     * @param form    表单
+     * @param version 版本
+     * @return 验证器定义
+     * @throws IllegalStateException 验证器定义不存在或加载失败
+     */
+    public ValidatorDefinition definition(@NonNull String tenant, @NonNull String form, @NonNull String version) {
+        return this.pool(tenant, form, version).definition();
+    }
+
+    /**
+     * 借出数据验证器，使用后关闭借出以归还
+     *
+     * @param tenant  租户
+     * @param form    表单
+     * @param version 版本
+     * @return 数据验证器借出
+     * @throws IllegalStateException 验证器定义不存在或加载失败
+     */
+    public ValidatorPool.Lease lease(@NonNull String tenant, @NonNull String form, @NonNull String version) {
+        return this.pool(tenant, form, version).lease();
+    }
+
+    /**
+     * 获取数据验证器池
+     *
+     * @param tenant  租户
+     * @param form    表单
+     * @param version 版本
+     * @return 数据验证器池
+     * @throws IllegalStateException 验证器定义不存在或加载失败
+     */
+    private ValidatorPool pool(String tenant, String form, String version) {
+        try {
+            return this.definitions.getUnchecked(new Key(tenant, form, version));
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof IllegalStateException) {
+                throw (IllegalStateException) e.getCause();
+            }
+
+            throw new IllegalStateException(
+                    "load validator definition [" + tenant + "/" + form + "/" + version + "] failed", e.getCause()
+            );
+        }
+    }
+
+    /**
+     * 淘汰租户的全部验证器定义
+     *
+     * @param tenant 租户
+     */
+    public void invalidate(@NonNull String tenant) {
+        Assert.notNull(tenant, "[tenant] must not be null");
+
+        this.definitions.asMap().keySet().removeIf((key) -> key.tenant.equals(tenant));
+    }
+
+    /**
+     * 淘汰验证器定义
+     *
+     * @param tenant  租户
+     * @param form    表单
+     * @param version 版本
+     */
+    public void invalidate(@NonNull String tenant, @NonNull String form, @NonNull String version) {
+        this.definitions.invalidate(new Key(tenant, form, version));
+    }
+
+    /**
+     * 淘汰全部验证器定义
+     */
+    public void invalidateAll() {
+        this.definitions.invalidateAll();
+    }
+
+    /**
+     * 条目数量
+     *
+     * @return 条目数量
+     */
+    public long size() {
+        return this.definitions.size();
+    }
+
+    /**
+     * 缓存统计
+     *
+     * @return 缓存统计
+     */
+    public CacheStats stats() {
+        return this.definitions.stats();
+    }
+
+    /**
+     * 验证器定义加载器接口
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * 从目录加载 JSON 数据验证器定义，文件路径为 {@code {root}/{tenant}/{form}/{version}.json}
+         *
+         * @param root 根目录
+         * @return 验证器定义加载器
+         */
+        static Loader directory(@NonNull Path root) {
+            Assert.notNull(root, "[root] must not be null");
+
+            return (tenant, form, version) -> {
+                Path path = root.resolve(tenant).resolve(form).resolve(version + ".json");
+
+                if (!Files.isRegularFile(path)) {
+                    return null;
+                }
+
+                try {
+                    return JsonValidatorDefinition.compile(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+        }
+
+        /**
+         * 加载验证器定义
+         *
+         * @param tenant  租户
+         * @param form    表单
+         * @param version 版本
+         * @return 验证器定义，不存在时为 {@code null}
+         */
+        ValidatorDefinition load(String tenant, String form, String version);
+
+    }
+
+    /**
+     * 缓存键
+     */
+    private static final class Key {
+
+        private final String tenant;
+
+        private final String form;
+
+        private final String version;
+
+        private final int hash;
+
+        private Key(String tenant, String form, String version) {
+            this.tenant = identifier(tenant, "tenant");
+            this.form = identifier(form, "form");
+            this.version = identifier(version, "version");
+            this.hash = Objects.hash(tenant, form, version);
+        }
+
+        /**
+         * 检查标识
+         *
+         * @param identifier 标识
+         * @param name       名称
+         * @return 标识
+         */
+        private static String identifier(String identifier, String name) {
+            Assert.notNull(identifier, "[" + name + "] must not be null");
+            Assert.isTrue(IDENTIFIER.matcher(identifier).matches(), "[" + name + "] is not a valid identifier");
+
+            return identifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) o;
+
+            return this.tenant.equals(key.tenant) && this.form.equals(key.form) && this.version.equals(key.version);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public String toString() {
+            return this.tenant + "/" + this.form + "/" + this.version;
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.obby.validation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * 验证字段值来源接口
+ * <p>
+ * 从验证对象的原生结构直接读取验证字段值，无需先将验证对象转换为 {@link java.util.Map}。
+ * 验证字段值来源由 {@link ValueSources} 按验证对象类型解析，同一类型的解析结果被缓存。
+ *
+ * @author obby-xiang
+ * @see ValueSources
+ * @since 2021-02-20
+ */
+public interface ValueSource {
+
+    /**
+     * 是否支持验证对象类型
+     *
+     * @param type 验证对象类型
+     * @return 是否支持
+     */
+    boolean supports(@NonNull Class<?> type);
+
+    /**
+     * 读取验证字段值
+     *
+     * @param data      验证对象
+     * @param attribute 验证字段属性
+     * @return 验证字段值，不存在时为 {@code null}
+     */
+    @Nullable
+    Object value(@NonNull Object data, @NonNull String attribute);
+
+}
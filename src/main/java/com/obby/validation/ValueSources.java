@@ -0,0 +1,305 @@
+package com.obby.validation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
+
+import javax.servlet.ServletRequest;
+import java.lang.reflect.Field;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 验证字段值来源注册类
+ * <p>
+ * 内置 {@link MultiValueMap}、Gson {@link JsonObject}、{@link ServletRequest}、{@link Map} 及对象字段的验证字段值来源，
+ * 注册的验证字段值来源优先于内置验证字段值来源，后注册的优先。每个验证对象类型的解析结果被缓存，注册时清空缓存。
+ * <ul>
+ *     <li>{@link MultiValueMap} 及 {@link ServletRequest} 的参数只有一个值时读取为该值，有多个值时读取为值列表；</li>
+ *     <li>{@link JsonObject} 的基本类型读取为字符串、布尔值或数值，数组读取为只读列表视图，对象原样读取；</li>
+ *     <li>对象按字段读取，字段按类型缓存，验证字段属性包含 {@code .} 或 {@code [} 时按属性路径读取。</li>
+ * </ul>
+ *
+ * @author obby-xiang
+ * @since 2021-02-20
+ */
+public final class ValueSources {
+
+    /**
+     * 内置验证字段值来源，按顺序匹配
+     */
+    private static final List<ValueSource> builtins = List.of(
+            new MultiValueMapSource(), new JsonObjectSource(), new ServletRequestSource(), new MapSource(),
+            new BeanSource()
+    );
+
+    /**
+     * 注册的验证字段值来源，按顺序匹配
+     */
+    private static final List<ValueSource> sources = new CopyOnWriteArrayList<>();
+
+    /**
+     * 验证对象类型对应的验证字段值来源
+     */
+    private static final Map<Class<?>, ValueSource> resolved = new ConcurrentHashMap<>();
+
+    private ValueSources() {
+    }
+
+    /**
+     * 注册验证字段值来源，优先于已注册的验证字段值来源
+     *
+     * @param source 验证字段值来源
+     */
+    public static void register(@NonNull ValueSource source) {
+        Assert.notNull(source, "[source] must not be null");
+
+        sources.add(0, source);
+        resolved.clear();
+    }
+
+    /**
+     * 解析验证对象类型对应的验证字段值来源
+     *
+     * @param type 验证对象类型
+     * @return 验证字段值来源
+     */
+    public static ValueSource resolve(@NonNull Class<?> type) {
+        Assert.notNull(type, "[type] must not be null");
+
+        ValueSource source = resolved.get(type);
+
+        if (source == null) {
+            source = resolved.computeIfAbsent(type, ValueSources::find);
+        }
+
+        return source;
+    }
+
+    /**
+     * 读取验证字段值
+     *
+     * @param data      验证对象
+     * @param attribute 验证字段属性
+     * @return 验证字段值
+     */
+    public static Object value(@NonNull Object data, @NonNull String attribute) {
+        return resolve(data.getClass()).value(data, attribute);
+    }
+
+    /**
+     * 查找验证对象类型对应的验证字段值来源
+     *
+     * @param type 验证对象类型
+     * @return 验证字段值来源
+     */
+    private static ValueSource find(Class<?> type) {
+        for (ValueSource source : sources) {
+            if (source.supports(type)) {
+                return source;
+            }
+        }
+
+        for (ValueSource source : builtins) {
+            if (source.supports(type)) {
+                return source;
+            }
+        }
+
+        throw new IllegalStateException("no value source for [" + type + "]");
+    }
+
+    /**
+     * 参数值，只有一个值时为该值，有多个值时为值列表
+     *
+     * @param values 参数值
+     * @return 参数值
+     */
+    private static Object single(List<?> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        return values.size() == 1 ? values.get(0) : values;
+    }
+
+    /**
+     * 转换 JSON 值，数组转换为只读列表视图
+     *
+     * @param element JSON 值
+     * @return 验证字段值
+     */
+    private static Object unwrap(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+
+        if (element.isJsonPrimitive()) {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+
+            if (primitive.isBoolean()) {
+                return primitive.getAsBoolean();
+            }
+
+            return primitive.isNumber() ? primitive.getAsNumber() : primitive.getAsString();
+        }
+
+        if (element.isJsonArray()) {
+            return new JsonArrayList(element.getAsJsonArray());
+        }
+
+        return element;
+    }
+
+    /**
+     * {@link Map} 验证字段值来源
+     */
+    private static final class MapSource implements ValueSource {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return Map.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public Object value(@NonNull Object data, @NonNull String attribute) {
+            return ((Map<?, ?>) data).get(attribute);
+        }
+
+    }
+
+    /**
+     * {@link MultiValueMap} 验证字段值来源
+     */
+    private static final class MultiValueMapSource implements ValueSource {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return MultiValueMap.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public Object value(@NonNull Object data, @NonNull String attribute) {
+            return single(((MultiValueMap<?, ?>) data).get(attribute));
+        }
+
+    }
+
+    /**
+     * Gson {@link JsonObject} 验证字段值来源
+     */
+    private static final class JsonObjectSource implements ValueSource {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return JsonObject.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public Object value(@NonNull Object data, @NonNull String attribute) {
+            return unwrap(((JsonObject) data).get(attribute));
+        }
+
+    }
+
+    /**
+     * {@link ServletRequest} 参数验证字段值来源
+     */
+    private static final class ServletRequestSource implements ValueSource {
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return ServletRequest.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public Object value(@NonNull Object data, @NonNull String attribute) {
+            String[] values = ((ServletRequest) data).getParameterValues(attribute);
+
+            return values == null ? null : single(Arrays.asList(values));
+        }
+
+    }
+
+    /**
+     * 对象字段验证字段值来源
+     */
+    private static final class BeanSource implements ValueSource {
+
+        /**
+         * 类型字段，不存在的字段为空
+         */
+        private final Map<Class<?>, Map<String, Optional<Field>>> fields = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean supports(@NonNull Class<?> type) {
+            return true;
+        }
+
+        @Override
+        public Object value(@NonNull Object data, @NonNull String attribute) {
+            if (attribute.indexOf('.') >= 0 || attribute.indexOf('[') >= 0) {
+                return new DirectFieldAccessor(data).getPropertyValue(attribute);
+            }
+
+            Optional<Field> field = this.fields
+                    .computeIfAbsent(data.getClass(), (type) -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(attribute, (name) -> this.find(data.getClass(), name));
+
+            return field.map((value) -> ReflectionUtils.getField(value, data)).orElse(null);
+        }
+
+        /**
+         * 查找字段
+         *
+         * @param type 类型
+         * @param name 字段名称
+         * @return 字段
+         */
+        private Optional<Field> find(Class<?> type, String name) {
+            Field field = ReflectionUtils.findField(type, name);
+
+            if (field != null) {
+                ReflectionUtils.makeAccessible(field);
+            }
+
+            return Optional.ofNullable(field);
+        }
+
+    }
+
+    /**
+     * JSON 数组只读列表视图
+     */
+    private static final class JsonArrayList extends AbstractList<Object> {
+
+        private final JsonArray array;
+
+        private JsonArrayList(JsonArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public Object get(int index) {
+            return unwrap(this.array.get(index));
+        }
+
+        @Override
+        public int size() {
+            return this.array.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,379 @@
+package com.obby.validation;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 紧凑验证失败结果类
+ * <p>
+ * 每次验证的失败结果仅保存验证规则编号、消息键及验证字段值的引用，验证字段属性及验证规则由同一数据验证器的结果共享，
+ * 验证失败消息在需要时渲染，适合大批量保存验证结果。
+ *
+ * @author obby-xiang
+ * @since 2021-02-05
+ */
+public final class Violations {
+
+    private static final int[] EMPTY_RULES = new int[0];
+
+    private static final String[] EMPTY_KEYS = new String[0];
+
+    private static final Object[] EMPTY_DATA = new Object[0];
+
+    /**
+     * 验证规则表
+     */
+    private final Table table;
+
+    /**
+     * 区域
+     */
+    private final Locale locale;
+
+    /**
+     * 验证规则编号
+     */
+    private int[] rules;
+
+    /**
+     * 验证失败消息键
+     */
+    private String[] keys;
+
+    /**
+     * 验证字段值
+     */
+    private Object[] data;
+
+    /**
+     * 验证失败数量
+     */
+    private int size;
+
+    /**
+     * 构造
+     *
+     * @param table  验证规则表
+     * @param locale 区域
+     */
+    Violations(Table table, Locale locale) {
+        this.table = table;
+        this.locale = locale;
+        this.rules = EMPTY_RULES;
+        this.keys = EMPTY_KEYS;
+        this.data = EMPTY_DATA;
+    }
+
+    /**
+     * 验证失败数量
+     *
+     * @return 验证失败数量
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * 是否没有验证失败
+     *
+     * @return 是否没有验证失败
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * 区域
+     *
+     * @return 区域
+     */
+    public Locale locale() {
+        return this.locale;
+    }
+
+    /**
+     * 验证规则编号
+     *
+     * @param index 验证失败索引
+     * @return 验证规则编号
+     */
+    public int rule(int index) {
+        return this.rules[this.check(index)];
+    }
+
+    /**
+     * 验证字段属性
+     *
+     * @param index 验证失败索引
+     * @return 验证字段属性
+     */
+    public String attribute(int index) {
+        return this.table.attributes[this.table.ruleAttributes[this.rule(index)]];
+    }
+
+    /**
+     * 验证失败消息键
+     *
+     * @param index 验证失败索引
+     * @return 验证失败消息键
+     */
+    public String key(int index) {
+        return this.keys[this.check(index)];
+    }
+
+    /**
+     * 渲染验证失败消息
+     *
+     * @param index 验证失败索引
+     * @return 验证失败消息
+     */
+    public String message(int index) {
+        return this.table.rules[this.rule(index)].render(this.keys[index], this.data[index], this.locale);
+    }
+
+    /**
+     * 渲染全部验证失败消息
+     *
+     * @return 验证失败消息
+     */
+    public Map<String, List<String>> errors() {
+        if (this.size == 0) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+
+        for (int i = 0; i < this.size; i++) {
+            errors.computeIfAbsent(this.attribute(i), (key) -> new ArrayList<>()).add(this.message(i));
+        }
+
+        return errors;
+    }
+
+    /**
+     * 添加验证失败
+     *
+     * @param rule 验证规则编号
+     * @param key  验证失败消息键
+     * @param data 验证字段值
+     */
+    void add(int rule, String key, Object data) {
+        if (this.size == this.rules.length) {
+            int capacity = Math.max(4, this.size << 1);
+
+            this.rules = Arrays.copyOf(this.rules, capacity);
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.data = Arrays.copyOf(this.data, capacity);
+        }
+
+        this.rules[this.size] = rule;
+        this.keys[this.size] = key;
+        this.data[this.size] = data;
+        this.size++;
+    }
+
+    /**
+     * 按验证规则表重新绑定，共享验证失败数据
+     *
+     * @param table 验证规则表
+     * @return 紧凑验证失败结果，验证规则编号超出验证规则表时为 {@code null}
+     */
+    Violations bind(Table table) {
+        if (table == this.table) {
+            return this;
+        }
+
+        for (int i = 0; i < this.size; i++) {
+            if (this.rules[i] >= table.rules.length) {
+                return null;
+            }
+        }
+
+        Violations violations = new Violations(table, this.locale);
+
+        violations.rules = this.rules;
+        violations.keys = this.keys;
+        violations.data = this.data;
+        violations.size = this.size;
+
+        return violations;
+    }
+
+    /**
+     * 释放多余容量
+     *
+     * @return 紧凑验证失败结果
+     */
+    Violations trim() {
+        if (this.size < this.rules.length) {
+            this.rules = this.size == 0 ? EMPTY_RULES : Arrays.copyOf(this.rules, this.size);
+            this.keys = this.size == 0 ? EMPTY_KEYS : Arrays.copyOf(this.keys, this.size);
+            this.data = this.size == 0 ? EMPTY_DATA : Arrays.copyOf(this.data, this.size);
+        }
+
+        return this;
+    }
+
+    /**
+     * 检查验证失败索引
+     *
+     * @param index 验证失败索引
+     * @return 验证失败索引
+     */
+    private int check(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("index [" + index + "] out of bounds [" + this.size + "]");
+        }
+
+        return index;
+    }
+
+    /**
+     * 验证规则表
+     * <p>
+     * 按字段级验证器顺序为每个根验证规则编号，由同一数据验证器的验证结果共享。
+     */
+    static final class Table {
+
+        /**
+         * 验证字段属性
+         */
+        private final String[] attributes;
+
+        /**
+         * 验证规则
+         */
+        private final Rule<?, ?>[] rules;
+
+        /**
+         * 验证规则对应的验证字段属性索引
+         */
+        private final int[] ruleAttributes;
+
+        /**
+         * 字段级验证器对应的验证字段属性索引
+         */
+        private final int[] fieldAttributes;
+
+        /**
+         * 字段级验证器首个验证规则编号
+         */
+        private final int[] offsets;
+
+        /**
+         * 字段级验证器验证规则数量
+         */
+        private final int[] counts;
+
+        /**
+         * 字段级验证器分组修订号
+         */
+        private final int[] revisions;
+
+        /**
+         * 构造
+         *
+         * @param fieldValidators 字段级验证器列表
+         */
+        Table(@NonNull List<Validator.FieldValidator<?>> fieldValidators) {
+            Assert.notNull(fieldValidators, "[fieldValidators] must not be null");
+
+            List<String> attributes = new ArrayList<>();
+            List<Rule<?, ?>> rules = new ArrayList<>();
+            List<Integer> ruleAttributes = new ArrayList<>();
+
+            this.fieldAttributes = new int[fieldValidators.size()];
+            this.offsets = new int[fieldValidators.size()];
+            this.counts = new int[fieldValidators.size()];
+            this.revisions = new int[fieldValidators.size()];
+
+            for (int i = 0; i < fieldValidators.size(); i++) {
+                Validator.FieldValidator<?> fieldValidator = fieldValidators.get(i);
+                String attribute = fieldValidator.errorAttribute();
+                int index = attributes.indexOf(attribute);
+
+                if (index < 0) {
+                    index = attributes.size();
+                    attributes.add(attribute);
+                }
+
+                this.fieldAttributes[i] = index;
+                this.offsets[i] = rules.size();
+                this.counts[i] = fieldValidator.rules().size();
+                this.revisions[i] = fieldValidator.revision();
+
+                for (Rule<?, ?> rule : fieldValidator.rules()) {
+                    rules.add(rule);
+                    ruleAttributes.add(index);
+                }
+            }
+
+            this.attributes = attributes.toArray(new String[0]);
+            this.rules = rules.toArray(new Rule<?, ?>[0]);
+            this.ruleAttributes = ruleAttributes.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * 验证字段属性数量
+         *
+         * @return 验证字段属性数量
+         */
+        int attributes() {
+            return this.attributes.length;
+        }
+
+        /**
+         * 字段级验证器的验证字段属性索引
+         *
+         * @param fieldValidator 字段级验证器索引
+         * @return 验证字段属性索引
+         */
+        int attribute(int fieldValidator) {
+            return this.fieldAttributes[fieldValidator];
+        }
+
+        /**
+         * 验证规则编号
+         *
+         * @param fieldValidator 字段级验证器索引
+         * @param rule           验证规则索引
+         * @return 验证规则编号
+         */
+        int rule(int fieldValidator, int rule) {
+            return this.offsets[fieldValidator] + rule;
+        }
+
+        /**
+         * 是否与字段级验证器列表一致，字段级验证器的分组变更后不一致
+         *
+         * @param fieldValidators 字段级验证器列表
+         * @return 是否一致
+         */
+        boolean matches(List<Validator.FieldValidator<?>> fieldValidators) {
+            if (fieldValidators.size() != this.offsets.length) {
+                return false;
+            }
+
+            for (int i = 0; i < this.offsets.length; i++) {
+                Validator.FieldValidator<?> fieldValidator = fieldValidators.get(i);
+
+                if (fieldValidator.rules().size() != this.counts[i] || fieldValidator.revision() != this.revisions[i]
+                        || !this.attributes[this.fieldAttributes[i]].equals(fieldValidator.errorAttribute())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+    }
+
+}
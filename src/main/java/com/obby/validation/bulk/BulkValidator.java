@@ -0,0 +1,839 @@
+package com.obby.validation.bulk;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.obby.validation.Budget;
+import com.obby.validation.Validator;
+import com.obby.validation.ValidatorDefinition;
+import com.obby.validation.ValidatorPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量数据验证器类
+ * <p>
+ * 按块将输入文件映射到内存，块边界对齐到行尾，各块在固定大小的线程池中逐行解析及验证，
+ * 验证失败结果按行号顺序写入 {@link ErrorSink} 或以 NDJSON 写入报告文件：
+ * <pre>{@code
+ * {"line":3,"errors":{"foo":["is required"]}}
+ * {"line":7,"error":"malformed record: ..."}
+ * }</pre>
+ * 同时处理中的块不超过并行数量的两倍，内存占用与文件大小无关。
+ * <p>
+ * 也可在当前线程逐行验证输入流，每条记录的验证结果在读取后立即以 NDJSON 写入输出流，
+ * 输入暂无数据或每 {@value #FLUSH_RECORDS} 条记录刷新一次：
+ * <pre>{@code
+ * {"line":1,"valid":true}
+ * {"line":2,"valid":false,"errors":{"foo":["is required"]}}
+ * }</pre>
+ * 超过最大长度的行不读入内存，记为格式错误的记录。
+ * <p>
+ * 每条记录单独应用验证预算及验证失败消息数量上限，达到上限的验证结果带有 {@code "truncated":true}。
+ *
+ * @author obby-xiang
+ * @since 2021-02-10
+ */
+public final class BulkValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkValidator.class);
+
+    private static final Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * 默认块大小（字节）
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 64L << 20;
+
+    /**
+     * 最大块大小（字节）
+     */
+    private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * 流式验证最多缓冲的验证结果数量
+     */
+    public static final int FLUSH_RECORDS = 256;
+
+    /**
+     * 流式验证默认最大行长度（字符）
+     */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1 << 20;
+
+    /**
+     * 超过最大长度的行
+     */
+    private static final String OVERLONG = new String();
+
+    private static final AtomicInteger threads = new AtomicInteger();
+
+    /**
+     * 数据验证器定义
+     */
+    private final ValidatorDefinition definition;
+
+    /**
+     * 数据验证器池
+     */
+    private ValidatorPool validators;
+
+    /**
+     * 记录格式
+     */
+    private Format format;
+
+    /**
+     * 块大小（字节）
+     */
+    private long chunkSize;
+
+    /**
+     * 并行数量
+     */
+    private int parallelism;
+
+    /**
+     * 区域
+     */
+    private Locale locale;
+
+    /**
+     * 每条记录的验证预算，为 {@code null} 时不限制
+     */
+    private Budget budget;
+
+    /**
+     * 每条记录的验证失败消息总数上限，为 0 时不限制
+     */
+    private int maxErrors;
+
+    /**
+     * 每条记录每个验证字段属性的验证失败消息数量上限，为 0 时不限制
+     */
+    private int maxAttributeErrors;
+
+    /**
+     * 流式验证最大行长度（字符）
+     */
+    private int maxLineLength;
+
+    /**
+     * 构造
+     *
+     * @param definition 数据验证器定义
+     */
+    public BulkValidator(@NonNull ValidatorDefinition definition) {
+        Assert.notNull(definition, "[definition] must not be null");
+
+        this.definition = definition;
+        this.validators = pool(definition, 0);
+        this.format = Format.NDJSON;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.locale = Locale.getDefault();
+        this.maxLineLength = DEFAULT_MAX_LINE_LENGTH;
+    }
+
+    /**
+     * 创建批量数据验证器
+     *
+     * @param definition 数据验证器定义
+     * @return 批量数据验证器
+     */
+    public static BulkValidator make(@NonNull ValidatorDefinition definition) {
+        return new BulkValidator(definition);
+    }
+
+    /**
+     * 设置记录格式
+     *
+     * @param format 记录格式
+     * @return 批量数据验证器
+     */
+    public BulkValidator format(@NonNull Format format) {
+        Assert.notNull(format, "[format] must not be null");
+
+        this.format = format;
+
+        return this;
+    }
+
+    /**
+     * 设置块大小（字节），超过一块的行归入其起始所在的块
+     *
+     * @param chunkSize 块大小（字节）
+     * @return 批量数据验证器
+     */
+    public BulkValidator chunkSize(long chunkSize) {
+        Assert.isTrue(chunkSize > 0 && chunkSize <= MAX_CHUNK_SIZE, "[chunkSize] out of range");
+
+        this.chunkSize = chunkSize;
+
+        return this;
+    }
+
+    /**
+     * 设置并行数量
+     *
+     * @param parallelism 并行数量
+     * @return 批量数据验证器
+     */
+    public BulkValidator parallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "[parallelism] must be positive");
+
+        this.parallelism = parallelism;
+
+        return this;
+    }
+
+    /**
+     * 设置区域
+     *
+     * @param locale 区域
+     * @return 批量数据验证器
+     */
+    public BulkValidator locale(@NonNull Locale locale) {
+        Assert.notNull(locale, "[locale] must not be null");
+
+        this.locale = locale;
+
+        return this;
+    }
+
+    /**
+     * 设置每条记录的验证预算
+     *
+     * @param budget 验证预算，为 {@code null} 时不限制
+     * @return 批量数据验证器
+     */
+    public BulkValidator budget(@Nullable Budget budget) {
+        this.budget = budget;
+
+        return this;
+    }
+
+    /**
+     * 设置每条记录的验证失败消息总数上限
+     *
+     * @param maxErrors 验证失败消息总数上限，为 0 时不限制
+     * @return 批量数据验证器
+     */
+    public BulkValidator maxErrors(int maxErrors) {
+        Assert.isTrue(maxErrors >= 0, "[maxErrors] must not be negative");
+
+        this.maxErrors = maxErrors;
+
+        return this;
+    }
+
+    /**
+     * 设置每条记录每个验证字段属性的验证失败消息数量上限
+     *
+     * @param maxAttributeErrors 验证失败消息数量上限，为 0 时不限制
+     * @return 批量数据验证器
+     */
+    public BulkValidator maxAttributeErrors(int maxAttributeErrors) {
+        Assert.isTrue(maxAttributeErrors >= 0, "[maxAttributeErrors] must not be negative");
+
+        this.maxAttributeErrors = maxAttributeErrors;
+
+        return this;
+    }
+
+    /**
+     * 设置流式验证最大行长度（字符）
+     *
+     * @param maxLineLength 最大行长度（字符）
+     * @return 批量数据验证器
+     */
+    public BulkValidator maxLineLength(int maxLineLength) {
+        Assert.isTrue(maxLineLength > 0, "[maxLineLength] must be positive");
+
+        this.maxLineLength = maxLineLength;
+
+        return this;
+    }
+
+    /**
+     * 设置数据验证器池容量
+     *
+     * @param capacity 最大空闲数据验证器数量，为 0 时每个线程持有一个数据验证器
+     * @return 批量数据验证器
+     */
+    public BulkValidator poolCapacity(int capacity) {
+        Assert.isTrue(capacity >= 0, "[capacity] must not be negative");
+
+        this.validators = pool(this.definition, capacity);
+
+        return this;
+    }
+
+    /**
+     * 记录格式
+     *
+     * @return 记录格式
+     */
+    public Format format() {
+        return this.format;
+    }
+
+    /**
+     * 块大小（字节）
+     *
+     * @return 块大小（字节）
+     */
+    public long chunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * 并行数量
+     *
+     * @return 并行数量
+     */
+    public int parallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * 区域
+     *
+     * @return 区域
+     */
+    public Locale locale() {
+        return this.locale;
+    }
+
+    /**
+     * 验证文件
+     *
+     * @param input  输入文件路径
+     * @param report 报告文件路径
+     * @return 批量验证报告
+     * @throws IOException 读写失败
+     */
+    public Report validate(@NonNull Path input, @NonNull Path report) throws IOException {
+        Assert.notNull(report, "[report] must not be null");
+
+        try (ErrorSink sink = SpillingErrorSink.make(SpillingErrorSink.DEFAULT_THRESHOLD)) {
+            Report result = this.validate(input, sink);
+
+            try (ErrorSink.Cursor cursor = sink.cursor();
+                 Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                while (cursor.hasNext()) {
+                    writer.write(cursor.next().json());
+                    writer.write('\n');
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * 验证文件
+     *
+     * @param input 输入文件路径
+     * @param sink  验证失败结果接收器，验证后不关闭
+     * @return 批量验证报告
+     * @throws IOException 读写失败
+     */
+    public Report validate(@NonNull Path input, @NonNull ErrorSink sink) throws IOException {
+        Assert.notNull(input, "[input] must not be null");
+        Assert.notNull(sink, "[sink] must not be null");
+
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(this.parallelism, (runnable) -> {
+            Thread thread = new Thread(runnable, "validation-bulk-" + threads.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        long records = 0;
+        long failed = 0;
+        long malformed = 0;
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = bom(channel, size);
+            long line = 1;
+            String[] header = null;
+
+            if (this.format.header() && position < size) {
+                long end = align(channel, position + 1, size);
+
+                header = this.format.header(decode(channel.map(FileChannel.MapMode.READ_ONLY, position, end - position)));
+                position = end;
+                line++;
+            }
+
+            Deque<Future<Chunk>> pending = new ArrayDeque<>();
+            int window = this.parallelism * 2;
+
+            while (position < size || !pending.isEmpty()) {
+                while (position < size && pending.size() < window) {
+                    long end = align(channel, Math.min(position + this.chunkSize, size), size);
+
+                    pending.add(executor.submit(new Task(channel, position, end, header)));
+                    position = end;
+                }
+
+                Chunk chunk = get(pending.poll());
+
+                for (int i = 0; i < chunk.lines.size(); i++) {
+                    long number = line + chunk.lines.get(i);
+
+                    sink.add(number, "{\"line\":" + number + "," + chunk.errors.get(i) + "}");
+                }
+
+                line += chunk.count;
+                records += chunk.records;
+                failed += chunk.lines.size();
+                malformed += chunk.malformed;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Report result = new Report(records, failed, malformed, System.nanoTime() - started);
+
+        logger.info("validated [{}]: {}", input, result);
+
+        return result;
+    }
+
+    /**
+     * 验证输入流
+     *
+     * @param input  输入流
+     * @param output 输出流，验证后不关闭
+     * @param locale 区域
+     * @return 批量验证报告
+     * @throws IOException 读写失败
+     */
+    public Report validate(@NonNull InputStream input, @NonNull OutputStream output, @NonNull Locale locale)
+            throws IOException {
+        Assert.notNull(input, "[input] must not be null");
+        Assert.notNull(output, "[output] must not be null");
+        Assert.notNull(locale, "[locale] must not be null");
+
+        long started = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder();
+        Chunk chunk = new Chunk();
+        String[] header = null;
+        String line;
+        int buffered = 0;
+
+        try (ValidatorPool.Lease lease = this.validators.lease()) {
+            Validator validator = this.configure(lease.validator(), locale);
+
+            while ((line = readLine(reader, builder, this.maxLineLength)) != null) {
+                String errors;
+
+                if (line == OVERLONG) {
+                    chunk.count++;
+                    chunk.records++;
+                    chunk.malformed++;
+
+                    errors = "\"error\":" + gson.toJson("record exceeds " + this.maxLineLength + " characters");
+                } else {
+                    if (chunk.count++ == 0 && line.startsWith("\uFEFF")) {
+                        line = line.substring(1);
+                    }
+
+                    if (this.format.header() && header == null) {
+                        header = this.format.header(line);
+
+                        continue;
+                    }
+
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+
+                    errors = this.validate(validator, line, header, chunk);
+                }
+
+                writer.write("{\"line\":");
+                writer.write(Integer.toString(chunk.count));
+                writer.write(errors == null ? ",\"valid\":true}\n" : ",\"valid\":false," + errors + "}\n");
+
+                if (errors != null) {
+                    chunk.failed++;
+                }
+
+                if (++buffered >= FLUSH_RECORDS || !reader.ready()) {
+                    writer.flush();
+                    buffered = 0;
+                }
+            }
+        }
+
+        writer.flush();
+
+        Report result = new Report(chunk.records, chunk.failed, chunk.malformed, System.nanoTime() - started);
+
+        logger.info("validated stream: {}", result);
+
+        return result;
+    }
+
+    /**
+     * 验证记录
+     *
+     * @param validator 数据验证器
+     * @param line      记录行
+     * @param header    表头
+     * @param chunk     块验证结果，记录数量及格式错误记录数量
+     * @return 验证失败内容，验证通过时为 {@code null}
+     */
+    private String validate(Validator validator, String line, String[] header, Chunk chunk) {
+        Map<String, Object> record;
+
+        chunk.records++;
+
+        try {
+            record = this.format.parse(line, header);
+        } catch (JsonParseException e) {
+            chunk.malformed++;
+
+            return "\"error\":" + gson.toJson("malformed record: " + e.getMessage());
+        }
+
+        validator.validate(record);
+
+        if (!validator.failed()) {
+            return null;
+        }
+
+        String errors = "\"errors\":" + gson.toJson(validator.errors());
+
+        return validator.truncated() ? errors + ",\"truncated\":true" : errors;
+    }
+
+    /**
+     * 配置借出的数据验证器
+     *
+     * @param validator 数据验证器
+     * @param locale    区域
+     * @return 数据验证器
+     */
+    private Validator configure(Validator validator, Locale locale) {
+        return validator.locale(locale)
+                .budget(this.budget)
+                .maxErrors(this.maxErrors)
+                .maxAttributeErrors(this.maxAttributeErrors);
+    }
+
+    /**
+     * 创建数据验证器池
+     *
+     * @param definition 数据验证器定义
+     * @param capacity   最大空闲数据验证器数量，为 0 时每个线程持有一个数据验证器
+     * @return 数据验证器池
+     */
+    private static ValidatorPool pool(ValidatorDefinition definition, int capacity) {
+        ValidatorPool pool = capacity > 0
+                ? ValidatorPool.bounded(definition, capacity)
+                : ValidatorPool.threadLocal(definition);
+
+        return pool.configurer((validator) -> validator.abort(false).compact(true));
+    }
+
+    /**
+     * 读取一行，超过最大长度的行跳过剩余内容而不读入内存
+     *
+     * @param reader  输入
+     * @param builder 行缓冲区
+     * @param max     最大行长度（字符），不包括行尾
+     * @return 行，超过最大长度时为 {@link #OVERLONG}，输入结束时为 {@code null}
+     * @throws IOException 读取失败
+     */
+    private static String readLine(BufferedReader reader, StringBuilder builder, int max) throws IOException {
+        boolean overlong = false;
+        int c = reader.read();
+
+        if (c < 0) {
+            return null;
+        }
+
+        builder.setLength(0);
+
+        while (c >= 0 && c != '\n') {
+            if (!overlong) {
+                if (builder.length() > max) {
+                    overlong = true;
+                } else {
+                    builder.append((char) c);
+                }
+            }
+
+            c = reader.read();
+        }
+
+        int length = builder.length();
+
+        if (length > 0 && builder.charAt(length - 1) == '\r') {
+            length--;
+        }
+
+        return overlong || length > max ? OVERLONG : builder.substring(0, length);
+    }
+
+    /**
+     * 跳过 UTF-8 字节顺序标记
+     *
+     * @param channel 文件通道
+     * @param size    文件大小
+     * @return 起始位置
+     * @throws IOException 读取失败
+     */
+    private static long bom(FileChannel channel, long size) throws IOException {
+        if (size < 3) {
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(3);
+
+        channel.read(buffer, 0);
+
+        return buffer.position() == 3 && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF ? 3 : 0;
+    }
+
+    /**
+     * 对齐到行尾
+     *
+     * @param channel  文件通道
+     * @param position 位置
+     * @param size     文件大小
+     * @return 不小于 {@code position} 的位置，其前一字节为换行符或为文件末尾
+     * @throws IOException 读取失败
+     */
+    private static long align(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long offset = position - 1;
+
+        while (offset < size) {
+            buffer.clear();
+
+            int read = channel.read(buffer, offset);
+
+            if (read < 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+
+            offset += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * 解码行
+     *
+     * @param buffer 行内容
+     * @return 行，不含行尾换行符
+     */
+    private static String decode(ByteBuffer buffer) {
+        int length = buffer.remaining();
+
+        while (length > 0 && (buffer.get(buffer.position() + length - 1) == '\n'
+                || buffer.get(buffer.position() + length - 1) == '\r')) {
+            length--;
+        }
+
+        byte[] bytes = new byte[length];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 获取块验证结果
+     *
+     * @param future 块验证任务
+     * @return 块验证结果
+     * @throws IOException 读取失败或中断
+     */
+    private static Chunk get(Future<Chunk> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException("bulk validation interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 块验证任务
+     */
+    private final class Task implements Callable<Chunk> {
+
+        private final FileChannel channel;
+
+        private final long start;
+
+        private final long end;
+
+        private final String[] header;
+
+        private Task(FileChannel channel, long start, long end, String[] header) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.header = header;
+        }
+
+        @Override
+        public Chunk call() throws IOException {
+            MappedByteBuffer buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, this.start, this.end - this.start);
+            Chunk chunk = new Chunk();
+            byte[] bytes = new byte[256];
+            int limit = buffer.limit();
+            int from = 0;
+
+            try (ValidatorPool.Lease lease = BulkValidator.this.validators.lease()) {
+                Validator validator = BulkValidator.this.configure(lease.validator(), BulkValidator.this.locale);
+
+                while (from < limit) {
+                    int to = from;
+
+                    while (to < limit && buffer.get(to) != '\n') {
+                        to++;
+                    }
+
+                    int length = to - from;
+
+                    if (length > 0 && buffer.get(to - 1) == '\r') {
+                        length--;
+                    }
+
+                    if (length > 0) {
+                        if (length > bytes.length) {
+                            bytes = new byte[Math.max(length, bytes.length << 1)];
+                        }
+
+                        buffer.position(from);
+                        buffer.get(bytes, 0, length);
+
+                        String errors = BulkValidator.this.validate(
+                                validator, new String(bytes, 0, length, StandardCharsets.UTF_8), this.header, chunk
+                        );
+
+                        if (errors != null) {
+                            chunk.fail(errors);
+                        }
+                    }
+
+                    chunk.count++;
+                    from = to + 1;
+                }
+            }
+
+            return chunk;
+        }
+
+    }
+
+    /**
+     * 块验证结果
+     */
+    private static final class Chunk {
+
+        /**
+         * 验证失败行在块内的索引
+         */
+        private final List<Integer> lines = new ArrayList<>();
+
+        /**
+         * 验证失败内容
+         */
+        private final List<String> errors = new ArrayList<>();
+
+        /**
+         * 行数量
+         */
+        private int count;
+
+        /**
+         * 记录数量
+         */
+        private int records;
+
+        /**
+         * 格式错误记录数量
+         */
+        private int malformed;
+
+        /**
+         * 验证失败记录数量
+         */
+        private int failed;
+
+        /**
+         * 记录当前行验证失败
+         *
+         * @param error 验证失败内容
+         */
+        private void fail(String error) {
+            this.lines.add(this.count);
+            this.errors.add(error);
+        }
+
+    }
+
+}
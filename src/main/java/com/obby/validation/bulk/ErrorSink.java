@@ -0,0 +1,99 @@
+package com.obby.validation.bulk;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 批量验证失败结果接收器接口
+ * <p>
+ * 按行号顺序接收验证失败结果，每条结果为一行 JSON 对象，如 {@code {"line":3,"errors":{"foo":["is required"]}}}。
+ *
+ * @author obby-xiang
+ * @since 2021-02-16
+ */
+public interface ErrorSink extends Closeable {
+
+    /**
+     * 添加验证失败结果
+     *
+     * @param line 行号
+     * @param json 验证失败结果
+     * @throws IOException 写入失败
+     */
+    void add(long line, String json) throws IOException;
+
+    /**
+     * 验证失败结果数量
+     *
+     * @return 验证失败结果数量
+     */
+    long size();
+
+    /**
+     * 按添加顺序读取验证失败结果，读取期间不应继续添加
+     *
+     * @return 验证失败结果游标
+     * @throws IOException 读取失败
+     */
+    Cursor cursor() throws IOException;
+
+    /**
+     * 验证失败结果游标
+     */
+    interface Cursor extends Iterator<Entry>, Closeable {
+
+    }
+
+    /**
+     * 验证失败结果
+     */
+    final class Entry {
+
+        /**
+         * 行号
+         */
+        private final long line;
+
+        /**
+         * 验证失败结果
+         */
+        private final String json;
+
+        /**
+         * 构造
+         *
+         * @param line 行号
+         * @param json 验证失败结果
+         */
+        Entry(long line, String json) {
+            this.line = line;
+            this.json = json;
+        }
+
+        /**
+         * 行号
+         *
+         * @return 行号
+         */
+        public long line() {
+            return this.line;
+        }
+
+        /**
+         * 验证失败结果
+         *
+         * @return 验证失败结果
+         */
+        public String json() {
+            return this.json;
+        }
+
+        @Override
+        public String toString() {
+            return this.json;
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.obby.validation.bulk;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量验证记录格式枚举
+ * <p>
+ * 每行一条记录，不支持跨行的记录。
+ *
+ * @author obby-xiang
+ * @since 2021-02-10
+ */
+public enum Format {
+
+    /**
+     * 换行分隔的 JSON 对象
+     */
+    NDJSON(false) {
+        @Override
+        Map<String, Object> parse(String line, String[] header) {
+            JsonElement json = JsonParser.parseString(line);
+
+            if (!json.isJsonObject()) {
+                throw new JsonParseException("record must be an object");
+            }
+
+            return gson.fromJson(json, RECORD_TYPE);
+        }
+    },
+
+    /**
+     * 首行为表头的逗号分隔值，字段可用双引号包围，双引号以两个双引号转义
+     */
+    CSV(true) {
+        @Override
+        Map<String, Object> parse(String line, String[] header) {
+            List<String> fields = fields(line);
+            Map<String, Object> record = new HashMap<>((int) (header.length / 0.75f) + 1);
+
+            for (int i = 0; i < header.length && i < fields.size(); i++) {
+                record.put(header[i], fields.get(i));
+            }
+
+            return record;
+        }
+    };
+
+    private static final Gson gson = new Gson();
+
+    private static final Type RECORD_TYPE = new TypeToken<Map<String, Object>>() {
+    }.getType();
+
+    /**
+     * 是否有表头
+     */
+    private final boolean header;
+
+    /**
+     * 构造
+     *
+     * @param header 是否有表头
+     */
+    Format(boolean header) {
+        this.header = header;
+    }
+
+    /**
+     * 是否有表头
+     *
+     * @return 是否有表头
+     */
+    public boolean header() {
+        return this.header;
+    }
+
+    /**
+     * 解析表头
+     *
+     * @param line 表头行
+     * @return 表头
+     */
+    String[] header(String line) {
+        return fields(line).toArray(new String[0]);
+    }
+
+    /**
+     * 解析记录
+     *
+     * @param line   记录行
+     * @param header 表头
+     * @return 记录
+     * @throws JsonParseException 记录格式错误
+     */
+    abstract Map<String, Object> parse(String line, String[] header);
+
+    /**
+     * 拆分逗号分隔值
+     *
+     * @param line 行
+     * @return 字段列表
+     */
+    private static List<String> fields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new JsonParseException("unterminated quoted field");
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.obby.validation.bulk;
+
+/**
+ * 批量验证报告类
+ *
+ * @author obby-xiang
+ * @since 2021-02-10
+ */
+public final class Report {
+
+    /**
+     * 记录数量
+     */
+    private final long records;
+
+    /**
+     * 验证失败记录数量，包括格式错误的记录
+     */
+    private final long failed;
+
+    /**
+     * 格式错误记录数量
+     */
+    private final long malformed;
+
+    /**
+     * 耗时（纳秒）
+     */
+    private final long nanos;
+
+    /**
+     * 构造
+     *
+     * @param records   记录数量
+     * @param failed    验证失败记录数量
+     * @param malformed 格式错误记录数量
+     * @param nanos     耗时（纳秒）
+     */
+    Report(long records, long failed, long malformed, long nanos) {
+        this.records = records;
+        this.failed = failed;
+        this.malformed = malformed;
+        this.nanos = nanos;
+    }
+
+    /**
+     * 记录数量
+     *
+     * @return 记录数量
+     */
+    public long records() {
+        return this.records;
+    }
+
+    /**
+     * 验证失败记录数量，包括格式错误的记录
+     *
+     * @return 验证失败记录数量
+     */
+    public long failed() {
+        return this.failed;
+    }
+
+    /**
+     * 格式错误记录数量
+     *
+     * @return 格式错误记录数量
+     */
+    public long malformed() {
+        return this.malformed;
+    }
+
+    /**
+     * 耗时（纳秒）
+     *
+     * @return 耗时（纳秒）
+     */
+    public long nanos() {
+        return this.nanos;
+    }
+
+    /**
+     * 每秒验证记录数量
+     *
+     * @return 每秒验证记录数量
+     */
+    public double recordsPerSecond() {
+        return this.nanos == 0 ? 0 : this.records * 1e9 / this.nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%d records (%d failed, %d malformed) in %d ms, %.0f records/s",
+                this.records, this.failed, this.malformed, this.nanos / 1_000_000, this.recordsPerSecond()
+        );
+    }
+
+}
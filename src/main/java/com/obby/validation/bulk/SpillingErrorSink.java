@@ -0,0 +1,345 @@
+package com.obby.validation.bulk;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * 溢出到磁盘的批量验证失败结果接收器类
+ * <p>
+ * 验证失败结果占用的内存未超过阈值时保存在内存中，超过后全部写入只追加的文件，此后的结果经缓冲区写入文件，
+ * 堆内存占用与验证失败结果数量无关。文件每行为行号、制表符及验证失败结果，读取时行号直接取自记录而不解析验证失败结果；
+ * 未指定文件时使用临时文件并在关闭时删除。非线程安全。
+ *
+ * @author obby-xiang
+ * @since 2021-02-16
+ */
+public final class SpillingErrorSink implements ErrorSink {
+
+    /**
+     * 默认内存阈值（字节）
+     */
+    public static final long DEFAULT_THRESHOLD = 16L << 20;
+
+    /**
+     * 写入缓冲区大小（字节）
+     */
+    private static final int BUFFER_SIZE = 64 << 10;
+
+    /**
+     * 每条验证失败结果的估计内存开销（字节）
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final byte NEWLINE = '\n';
+
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * 内存阈值（字节）
+     */
+    private final long threshold;
+
+    /**
+     * 指定的文件路径
+     */
+    private final Path path;
+
+    /**
+     * 内存中的验证失败结果
+     */
+    private List<Entry> entries;
+
+    /**
+     * 内存中的验证失败结果估计占用（字节）
+     */
+    private long bytes;
+
+    /**
+     * 验证失败结果数量
+     */
+    private long size;
+
+    /**
+     * 溢出文件路径
+     */
+    private Path file;
+
+    /**
+     * 溢出文件通道
+     */
+    private FileChannel channel;
+
+    /**
+     * 写入缓冲区
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * 构造
+     *
+     * @param threshold 内存阈值（字节），为 0 时全部写入文件
+     * @param path      文件路径，为 {@code null} 时溢出到临时文件
+     * @throws IOException 创建文件失败
+     */
+    public SpillingErrorSink(long threshold, @Nullable Path path) throws IOException {
+        Assert.isTrue(threshold >= 0, "[threshold] must not be negative");
+
+        this.threshold = threshold;
+        this.path = path;
+        this.entries = new ArrayList<>();
+
+        if (path != null) {
+            this.spill();
+        }
+    }
+
+    /**
+     * 创建溢出到临时文件的批量验证失败结果接收器
+     *
+     * @param threshold 内存阈值（字节）
+     * @return 批量验证失败结果接收器
+     */
+    public static SpillingErrorSink make(long threshold) {
+        try {
+            return new SpillingErrorSink(threshold, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 创建写入文件的批量验证失败结果接收器
+     *
+     * @param path 文件路径
+     * @return 批量验证失败结果接收器
+     * @throws IOException 创建文件失败
+     */
+    public static SpillingErrorSink file(@NonNull Path path) throws IOException {
+        Assert.notNull(path, "[path] must not be null");
+
+        return new SpillingErrorSink(0, path);
+    }
+
+    @Override
+    public void add(long line, @NonNull String json) throws IOException {
+        Assert.notNull(json, "[json] must not be null");
+
+        this.size++;
+
+        if (this.channel != null) {
+            this.write(line, json);
+
+            return;
+        }
+
+        this.entries.add(new Entry(line, json));
+        this.bytes += ((long) json.length() << 1) + ENTRY_OVERHEAD;
+
+        if (this.bytes > this.threshold) {
+            this.spill();
+        }
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * 是否已溢出到文件
+     *
+     * @return 是否已溢出到文件
+     */
+    public boolean spilled() {
+        return this.channel != null;
+    }
+
+    /**
+     * 溢出文件路径
+     *
+     * @return 溢出文件路径，未溢出时为 {@code null}
+     */
+    public Path file() {
+        return this.file;
+    }
+
+    @Override
+    public Cursor cursor() throws IOException {
+        if (this.channel == null) {
+            Iterator<Entry> iterator = List.copyOf(this.entries).iterator();
+
+            return new Cursor() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public void close() {
+                    // 内存中的验证失败结果无需释放
+                }
+            };
+        }
+
+        this.flush();
+
+        return new FileCursor(Files.newBufferedReader(this.file, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.channel != null) {
+            try {
+                this.flush();
+                this.channel.close();
+            } finally {
+                this.channel = null;
+
+                if (this.path == null) {
+                    Files.deleteIfExists(this.file);
+                }
+            }
+        }
+
+        this.entries = new ArrayList<>();
+    }
+
+    /**
+     * 溢出到文件
+     *
+     * @throws IOException 写入失败
+     */
+    private void spill() throws IOException {
+        this.file = this.path != null ? this.path : Files.createTempFile("validation-errors-", ".ndjson");
+        this.channel = FileChannel.open(
+                this.file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+        );
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        for (Entry entry : this.entries) {
+            this.write(entry.line(), entry.json());
+        }
+
+        this.entries = null;
+        this.bytes = 0;
+    }
+
+    /**
+     * 写入验证失败结果
+     *
+     * @param line 行号
+     * @param json 验证失败结果
+     * @throws IOException 写入失败
+     */
+    private void write(long line, String json) throws IOException {
+        byte[] bytes = (Long.toString(line) + SEPARATOR + json).getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.length + 1 > this.buffer.remaining()) {
+            this.flush();
+        }
+
+        if (bytes.length + 1 > this.buffer.capacity()) {
+            this.drain(ByteBuffer.wrap(bytes));
+            this.drain(ByteBuffer.wrap(new byte[]{NEWLINE}));
+
+            return;
+        }
+
+        this.buffer.put(bytes).put(NEWLINE);
+    }
+
+    /**
+     * 写出缓冲区
+     *
+     * @throws IOException 写入失败
+     */
+    private void flush() throws IOException {
+        this.buffer.flip();
+        this.drain(this.buffer);
+        this.buffer.clear();
+    }
+
+    /**
+     * 写出全部内容
+     *
+     * @param buffer 内容
+     * @throws IOException 写入失败
+     */
+    private void drain(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+    }
+
+    /**
+     * 文件游标
+     */
+    private static final class FileCursor implements Cursor {
+
+        private final BufferedReader reader;
+
+        private String next;
+
+        private FileCursor(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null) {
+                try {
+                    this.next = this.reader.readLine();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            return this.next != null;
+        }
+
+        @Override
+        public Entry next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            String record = this.next;
+            int separator = record.indexOf(SEPARATOR);
+
+            this.next = null;
+
+            if (separator < 0) {
+                throw new IllegalStateException("spill record [" + record + "] must start with a line number");
+            }
+
+            return new Entry(Long.parseLong(record.substring(0, separator)), record.substring(separator + 1));
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.reader.close();
+        }
+
+    }
+
+}
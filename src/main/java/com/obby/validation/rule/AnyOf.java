@@ -0,0 +1,130 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import com.obby.validation.RuleProgram;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 任一满足组合验证规则类
+ *
+ * @param <T> 验证对象类型
+ * @author obby-xiang
+ * @since 2021-02-02
+ */
+public class AnyOf<T> extends Rule<T, AnyOf<T>> {
+
+    /**
+     * 验证规则列表
+     */
+    private final List<Rule<? super T, ?>> rules;
+
+    /**
+     * 验证规则程序
+     */
+    private RuleProgram<T> program;
+
+    /**
+     * 构造
+     *
+     * @param rules 验证规则列表
+     */
+    public AnyOf(@NonNull List<Rule<? super T, ?>> rules) {
+        Assert.notEmpty(rules, "[rules] must not be empty");
+        Assert.noNullElements(rules, "[rules] must not contain any null elements");
+
+        this.rules = List.copyOf(rules);
+    }
+
+    /**
+     * 创建任一满足组合验证规则
+     *
+     * @param rules 验证规则列表
+     * @param <T>   验证对象类型
+     * @return 任一满足组合验证规则
+     */
+    @SafeVarargs
+    public static <T> AnyOf<T> make(@NonNull Rule<? super T, ?>... rules) {
+        return new AnyOf<T>(Arrays.asList(rules));
+    }
+
+    /**
+     * 验证规则列表
+     *
+     * @return 验证规则列表
+     */
+    public List<Rule<? super T, ?>> rules() {
+        return Collections.unmodifiableList(this.rules);
+    }
+
+    /**
+     * 全部验证规则是否确定
+     *
+     * @return 是否确定
+     */
+    @Override
+    public boolean deterministic() {
+        for (Rule<? super T, ?> rule : this.rules) {
+            if (!rule.deterministic()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        List<Object> keys = new ArrayList<>(this.rules.size() + 1);
+
+        keys.add(this.getClass());
+
+        for (Rule<? super T, ?> rule : this.rules) {
+            Object key = rule.definitionKey();
+
+            if (key == null) {
+                return null;
+            }
+
+            keys.add(key);
+        }
+
+        return keys;
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return null;
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(T data) {
+        if (this.program == null) {
+            this.program = RuleProgram.compile(this);
+        }
+
+        return this.program.test(data);
+    }
+
+}
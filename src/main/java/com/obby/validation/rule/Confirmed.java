@@ -0,0 +1,59 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.CrossFieldRule;
+
+import java.util.Objects;
+
+/**
+ * 确认数据验证规则类
+ * <p>
+ * 验证对象须与 {@code <验证字段属性>_confirmation} 的验证字段值相同。
+ *
+ * @author obby-xiang
+ * @since 2021-02-06
+ */
+public class Confirmed extends CrossFieldRule<Object, Confirmed> {
+
+    public static final String SUFFIX = "_confirmation";
+
+    /**
+     * 创建确认数据验证规则
+     *
+     * @return 确认数据验证规则
+     */
+    public static Confirmed make() {
+        return new Confirmed();
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return this.getClass();
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.confirmed";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        return Objects.equals(data, this.value(this.attribute() + SUFFIX));
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import com.obby.validation.RuleProgram;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 逐个元素组合验证规则类
+ * <p>
+ * 验证对象为集合、数组或映射时逐个验证其元素（映射为值），为 {@code null} 时视为验证通过，否则验证对象本身。
+ *
+ * @param <T> 验证元素类型
+ * @author obby-xiang
+ * @since 2021-02-02
+ */
+public class Each<T> extends Rule<Object, Each<T>> {
+
+    /**
+     * 元素验证规则
+     */
+    private final Rule<? super T, ?> rule;
+
+    /**
+     * 验证规则程序
+     */
+    private RuleProgram<Object> program;
+
+    /**
+     * 构造
+     *
+     * @param rule 元素验证规则
+     */
+    public Each(@NonNull Rule<? super T, ?> rule) {
+        Assert.notNull(rule, "[rule] must not be null");
+
+        this.rule = rule;
+    }
+
+    /**
+     * 创建逐个元素组合验证规则
+     *
+     * @param rule 元素验证规则
+     * @param <T>  验证元素类型
+     * @return 逐个元素组合验证规则
+     */
+    public static <T> Each<T> make(@NonNull Rule<? super T, ?> rule) {
+        return new Each<>(rule);
+    }
+
+    /**
+     * 元素验证规则
+     *
+     * @return 元素验证规则
+     */
+    public Rule<? super T, ?> rule() {
+        return this.rule;
+    }
+
+    /**
+     * 验证规则是否确定
+     *
+     * @return 是否确定
+     */
+    @Override
+    public boolean deterministic() {
+        return this.rule.deterministic();
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        Object key = this.rule.definitionKey();
+
+        return key != null ? List.of(this.getClass(), key) : null;
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return ObjectUtils.defaultIfNull(this.rule.customMessage(), this.rule.defaultMessage());
+    }
+
+    /**
+     * 验证失败消息模板的上下文，使用元素验证规则的消息时从元素验证规则读取模板变量
+     *
+     * @return 验证失败消息模板的上下文
+     */
+    @Override
+    public Object messageContext() {
+        return this.rule.messageContext();
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (this.program == null) {
+            this.program = RuleProgram.compile(this);
+        }
+
+        return this.program.test(data);
+    }
+
+}
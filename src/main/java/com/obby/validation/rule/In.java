@@ -0,0 +1,164 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 枚举数据验证规则类
+ * <p>
+ * 验证对象须为指定值之一，数值按数值相等比较（{@code 1} 与 {@code 1.0} 相等）；验证对象为 {@code null} 时视为验证通过。
+ * 查找表在构造时建立，可在多个验证规则间共享。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class In extends Rule<Object, In> {
+
+    /**
+     * 指定值
+     */
+    private final List<Object> values;
+
+    /**
+     * 查找表，数值已规范化
+     */
+    private final Set<Object> lookup;
+
+    /**
+     * 指定值是否包含数值
+     */
+    private final boolean numeric;
+
+    /**
+     * 构造
+     *
+     * @param values 指定值
+     */
+    public In(@NonNull Collection<?> values) {
+        Assert.notEmpty(values, "[values] must not be empty");
+        Assert.noNullElements(values, "[values] must not contain any null elements");
+
+        Set<Object> lookup = new HashSet<>();
+        boolean numeric = false;
+
+        for (Object value : values) {
+            if (value instanceof Number) {
+                numeric = true;
+            }
+
+            lookup.add(normalize(value));
+        }
+
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        this.lookup = Collections.unmodifiableSet(lookup);
+        this.numeric = numeric;
+    }
+
+    /**
+     * 创建枚举数据验证规则
+     *
+     * @param values 指定值
+     * @return 枚举数据验证规则
+     */
+    public static In make(@NonNull Object... values) {
+        return new In(Arrays.asList(values));
+    }
+
+    /**
+     * 指定值
+     *
+     * @return 指定值
+     */
+    public List<Object> values() {
+        return this.values;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.lookup);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.in";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (data == null) {
+            return true;
+        }
+
+        if (data instanceof Number) {
+            return this.numeric && this.lookup.contains(normalize(data));
+        }
+
+        return this.lookup.contains(data instanceof Character ? data.toString() : data);
+    }
+
+    /**
+     * 规范化指定值，数值转换为去除末尾零的 {@link BigDecimal}，字符转换为字符串
+     *
+     * @param value 指定值
+     * @return 规范化的值
+     */
+    private static Object normalize(Object value) {
+        if (value instanceof BigDecimal) {
+            return strip((BigDecimal) value);
+        }
+
+        if (value instanceof BigInteger) {
+            return strip(new BigDecimal((BigInteger) value));
+        }
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return strip(BigDecimal.valueOf(((Number) value).longValue()));
+        }
+
+        if (value instanceof Number) {
+            double number = ((Number) value).doubleValue();
+
+            return Double.isNaN(number) || Double.isInfinite(number) ? value : strip(BigDecimal.valueOf(number));
+        }
+
+        return value instanceof Character ? value.toString() : value;
+    }
+
+    /**
+     * 去除末尾零
+     *
+     * @param value 数值
+     * @return 数值
+     */
+    private static BigDecimal strip(BigDecimal value) {
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+}
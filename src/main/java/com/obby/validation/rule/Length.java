@@ -0,0 +1,233 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import org.springframework.util.Assert;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 长度数据验证规则类
+ * <p>
+ * 验证对象为字符串时按码点计算长度，为集合、数组或映射时按元素数量计算长度，长度须在最小长度及最大长度之间；
+ * 验证对象为 {@code null} 或其他类型时视为验证通过。可限定仅验证字符串（{@link #string(int, int)}）
+ * 或仅验证集合及数组（{@link #items(int, int)}），其他类型视为验证通过。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class Length extends Rule<Object, Length> {
+
+    /**
+     * 不限制最大长度
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    /**
+     * 验证对象类型
+     */
+    private final Target target;
+
+    /**
+     * 最小长度
+     */
+    private final int min;
+
+    /**
+     * 最大长度
+     */
+    private final int max;
+
+    /**
+     * 构造
+     *
+     * @param min 最小长度
+     * @param max 最大长度，{@link #UNBOUNDED} 时不限制
+     */
+    public Length(int min, int max) {
+        this(Target.ANY, min, max);
+    }
+
+    /**
+     * 构造
+     *
+     * @param target 验证对象类型
+     * @param min    最小长度
+     * @param max    最大长度，{@link #UNBOUNDED} 时不限制
+     */
+    public Length(Target target, int min, int max) {
+        Assert.notNull(target, "[target] must not be null");
+        Assert.isTrue(min >= 0, "[min] must not be negative");
+        Assert.isTrue(max >= min, "[max] must not be less than [min]");
+
+        this.target = target;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * 创建长度数据验证规则
+     *
+     * @param min 最小长度
+     * @param max 最大长度，{@link #UNBOUNDED} 时不限制
+     * @return 长度数据验证规则
+     */
+    public static Length make(int min, int max) {
+        return new Length(min, max);
+    }
+
+    /**
+     * 创建仅验证字符串的长度数据验证规则
+     *
+     * @param min 最小长度
+     * @param max 最大长度，{@link #UNBOUNDED} 时不限制
+     * @return 长度数据验证规则
+     */
+    public static Length string(int min, int max) {
+        return new Length(Target.STRING, min, max);
+    }
+
+    /**
+     * 创建仅验证集合及数组的长度数据验证规则
+     *
+     * @param min 最小长度
+     * @param max 最大长度，{@link #UNBOUNDED} 时不限制
+     * @return 长度数据验证规则
+     */
+    public static Length items(int min, int max) {
+        return new Length(Target.ITEMS, min, max);
+    }
+
+    /**
+     * 验证对象类型
+     *
+     * @return 验证对象类型
+     */
+    public Target target() {
+        return this.target;
+    }
+
+    /**
+     * 最小长度
+     *
+     * @return 最小长度
+     */
+    public int min() {
+        return this.min;
+    }
+
+    /**
+     * 最大长度
+     *
+     * @return 最大长度
+     */
+    public int max() {
+        return this.max;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.target, this.min, this.max);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        if (this.max == UNBOUNDED) {
+            return "validation.length_min";
+        }
+
+        return this.min == 0 ? "validation.length_max" : "validation.length";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (data instanceof CharSequence) {
+            if (this.target == Target.ITEMS) {
+                return true;
+            }
+
+            CharSequence sequence = (CharSequence) data;
+            int length = sequence.length();
+
+            // 码点数量不大于字符数量且不小于字符数量的一半，范围内时无需逐个计算码点
+            if (length >= this.min && length <= this.max && (length + 1) / 2 >= this.min) {
+                return true;
+            }
+
+            if (length < this.min) {
+                return false;
+            }
+
+            return this.accept(Character.codePointCount(sequence, 0, length));
+        }
+
+        if (this.target == Target.STRING) {
+            return true;
+        }
+
+        if (data instanceof Collection) {
+            return this.accept(((Collection<?>) data).size());
+        }
+
+        if (data instanceof Map && this.target == Target.ANY) {
+            return this.accept(((Map<?, ?>) data).size());
+        }
+
+        if (data != null && data.getClass().isArray()) {
+            return this.accept(Array.getLength(data));
+        }
+
+        return true;
+    }
+
+    /**
+     * 长度是否在范围内
+     *
+     * @param length 长度
+     * @return 是否在范围内
+     */
+    private boolean accept(int length) {
+        return length >= this.min && length <= this.max;
+    }
+
+    /**
+     * 验证对象类型
+     */
+    public enum Target {
+
+        /**
+         * 字符串、集合、数组及映射
+         */
+        ANY,
+
+        /**
+         * 仅字符串
+         */
+        STRING,
+
+        /**
+         * 仅集合及数组
+         */
+        ITEMS
+
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.obby.validation.rule;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 数值界限类
+ * <p>
+ * 构造时预先计算界限的 {@code long}、{@code double} 及 {@link BigDecimal} 形式，比较时按数值类型选择最快的比较方式，
+ * 仅在无法精确比较时使用 {@link BigDecimal}。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+final class Limit {
+
+    /**
+     * 界限
+     */
+    private final BigDecimal value;
+
+    /**
+     * 界限的 {@code double} 形式
+     */
+    private final double doubleValue;
+
+    /**
+     * 界限的 {@code long} 形式
+     */
+    private final long longValue;
+
+    /**
+     * 界限是否可精确表示为 {@code long}
+     */
+    private final boolean exactLong;
+
+    /**
+     * 构造
+     *
+     * @param value 界限
+     */
+    Limit(BigDecimal value) {
+        this.value = value;
+        this.doubleValue = value.doubleValue();
+
+        long longValue = 0;
+        boolean exactLong;
+
+        try {
+            longValue = value.longValueExact();
+            exactLong = true;
+        } catch (ArithmeticException e) {
+            exactLong = false;
+        }
+
+        this.longValue = longValue;
+        this.exactLong = exactLong;
+    }
+
+    /**
+     * 界限
+     *
+     * @return 界限
+     */
+    BigDecimal value() {
+        return this.value;
+    }
+
+    /**
+     * 比较数值与界限
+     *
+     * @param number 数值
+     * @return 数值小于、等于或大于界限时分别为负数、零或正数
+     */
+    int compare(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            if (this.exactLong) {
+                return Long.compare(number.longValue(), this.longValue);
+            }
+
+            return BigDecimal.valueOf(number.longValue()).compareTo(this.value);
+        }
+
+        if (number instanceof Double || number instanceof Float) {
+            return Double.compare(number.doubleValue(), this.doubleValue);
+        }
+
+        if (number instanceof BigDecimal) {
+            return ((BigDecimal) number).compareTo(this.value);
+        }
+
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number).compareTo(this.value);
+        }
+
+        try {
+            return new BigDecimal(number.toString()).compareTo(this.value);
+        } catch (NumberFormatException e) {
+            return Double.compare(number.doubleValue(), this.doubleValue);
+        }
+    }
+
+}
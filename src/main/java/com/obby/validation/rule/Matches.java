@@ -0,0 +1,119 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 正则表达式数据验证规则类
+ * <p>
+ * 验证对象为字符串时须包含正则表达式的匹配（与 JSON Schema 相同，不隐式锚定）；验证对象为 {@code null} 或其他类型时视为验证通过。
+ * 正则表达式预先编译并可在多个验证规则间共享，匹配器由验证规则持有并重复使用。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class Matches extends Rule<Object, Matches> {
+
+    /**
+     * 正则表达式
+     */
+    private final Pattern pattern;
+
+    /**
+     * 匹配器
+     */
+    private Matcher matcher;
+
+    /**
+     * 构造
+     *
+     * @param pattern 正则表达式
+     */
+    public Matches(@NonNull Pattern pattern) {
+        Assert.notNull(pattern, "[pattern] must not be null");
+
+        this.pattern = pattern;
+    }
+
+    /**
+     * 创建正则表达式数据验证规则
+     *
+     * @param pattern 正则表达式
+     * @return 正则表达式数据验证规则
+     */
+    public static Matches make(@NonNull Pattern pattern) {
+        return new Matches(pattern);
+    }
+
+    /**
+     * 创建正则表达式数据验证规则
+     *
+     * @param regex 正则表达式
+     * @return 正则表达式数据验证规则
+     */
+    public static Matches make(@NonNull String regex) {
+        Assert.notNull(regex, "[regex] must not be null");
+
+        return new Matches(Pattern.compile(regex));
+    }
+
+    /**
+     * 正则表达式
+     *
+     * @return 正则表达式
+     */
+    public String pattern() {
+        return this.pattern.pattern();
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.pattern.pattern(), this.pattern.flags());
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.pattern";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (!(data instanceof CharSequence)) {
+            return true;
+        }
+
+        if (this.matcher == null) {
+            this.matcher = this.pattern.matcher((CharSequence) data);
+        } else {
+            this.matcher.reset((CharSequence) data);
+        }
+
+        boolean found = this.matcher.find();
+
+        this.matcher.reset("");
+
+        return found;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 最大值数据验证规则类
+ * <p>
+ * 验证对象为数值时须不大于最大值，排他时须小于最大值；验证对象不是数值时视为验证通过，数值类型由类型验证规则验证。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class Max extends Rule<Object, Max> {
+
+    /**
+     * 最大值
+     */
+    private final Limit limit;
+
+    /**
+     * 是否排他
+     */
+    private final boolean exclusive;
+
+    /**
+     * 构造
+     *
+     * @param max       最大值
+     * @param exclusive 是否排他
+     */
+    public Max(@NonNull BigDecimal max, boolean exclusive) {
+        Assert.notNull(max, "[max] must not be null");
+
+        this.limit = new Limit(max);
+        this.exclusive = exclusive;
+    }
+
+    /**
+     * 创建最大值数据验证规则
+     *
+     * @param max 最大值
+     * @return 最大值数据验证规则
+     */
+    public static Max make(long max) {
+        return new Max(BigDecimal.valueOf(max), false);
+    }
+
+    /**
+     * 创建最大值数据验证规则
+     *
+     * @param max       最大值
+     * @param exclusive 是否排他
+     * @return 最大值数据验证规则
+     */
+    public static Max make(@NonNull BigDecimal max, boolean exclusive) {
+        return new Max(max, exclusive);
+    }
+
+    /**
+     * 最大值
+     *
+     * @return 最大值
+     */
+    public BigDecimal max() {
+        return this.limit.value();
+    }
+
+    /**
+     * 是否排他
+     *
+     * @return 是否排他
+     */
+    public boolean exclusive() {
+        return this.exclusive;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.limit.value().stripTrailingZeros(), this.exclusive);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return this.exclusive ? "validation.max_exclusive" : "validation.max";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (!(data instanceof Number)) {
+            return true;
+        }
+
+        int compared = this.limit.compare((Number) data);
+
+        return this.exclusive ? compared < 0 : compared <= 0;
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 最小值数据验证规则类
+ * <p>
+ * 验证对象为数值时须不小于最小值，排他时须大于最小值；验证对象不是数值时视为验证通过，数值类型由类型验证规则验证。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class Min extends Rule<Object, Min> {
+
+    /**
+     * 最小值
+     */
+    private final Limit limit;
+
+    /**
+     * 是否排他
+     */
+    private final boolean exclusive;
+
+    /**
+     * 构造
+     *
+     * @param min       最小值
+     * @param exclusive 是否排他
+     */
+    public Min(@NonNull BigDecimal min, boolean exclusive) {
+        Assert.notNull(min, "[min] must not be null");
+
+        this.limit = new Limit(min);
+        this.exclusive = exclusive;
+    }
+
+    /**
+     * 创建最小值数据验证规则
+     *
+     * @param min 最小值
+     * @return 最小值数据验证规则
+     */
+    public static Min make(long min) {
+        return new Min(BigDecimal.valueOf(min), false);
+    }
+
+    /**
+     * 创建最小值数据验证规则
+     *
+     * @param min       最小值
+     * @param exclusive 是否排他
+     * @return 最小值数据验证规则
+     */
+    public static Min make(@NonNull BigDecimal min, boolean exclusive) {
+        return new Min(min, exclusive);
+    }
+
+    /**
+     * 最小值
+     *
+     * @return 最小值
+     */
+    public BigDecimal min() {
+        return this.limit.value();
+    }
+
+    /**
+     * 是否排他
+     *
+     * @return 是否排他
+     */
+    public boolean exclusive() {
+        return this.exclusive;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.limit.value().stripTrailingZeros(), this.exclusive);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return this.exclusive ? "validation.min_exclusive" : "validation.min";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (!(data instanceof Number)) {
+            return true;
+        }
+
+        int compared = this.limit.compare((Number) data);
+
+        return this.exclusive ? compared > 0 : compared >= 0;
+    }
+
+}
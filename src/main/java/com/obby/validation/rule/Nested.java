@@ -0,0 +1,228 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.CascadingRule;
+import com.obby.validation.ObjectGraph;
+import com.obby.validation.Rule;
+import com.obby.validation.RuleProgram;
+import com.obby.validation.ValueSource;
+import com.obby.validation.ValueSources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 嵌套对象数据验证规则类
+ * <p>
+ * 逐个属性使用属性验证规则验证，属性值由验证对象类型对应的验证字段值来源读取，全部属性通过时验证通过；
+ * 验证对象为 {@code null} 时视为验证通过。每个属性的验证规则在首次验证时编译为验证规则程序。
+ * 属性验证规则可包含嵌套对象数据验证规则本身以验证递归结构，此时应由图模式的数据验证器验证，
+ * 同一对象仅验证一次，引用正在验证的对象时视为验证通过。属性验证规则计入数据验证器的验证预算，预算耗尽时停止验证。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class Nested extends CascadingRule<Nested> {
+
+    private static final Logger logger = LoggerFactory.getLogger(Nested.class);
+
+    /**
+     * 属性验证规则
+     */
+    private final Map<String, List<Rule<Object, ?>>> properties;
+
+    /**
+     * 属性名称
+     */
+    private String[] names;
+
+    /**
+     * 属性验证规则程序
+     */
+    private RuleProgram<Object>[] programs;
+
+    /**
+     * 是否正在判断验证规则是否确定，用于递归结构
+     */
+    private boolean inspecting;
+
+    /**
+     * 构造
+     */
+    public Nested() {
+        this.properties = new LinkedHashMap<>();
+    }
+
+    /**
+     * 创建嵌套对象数据验证规则
+     *
+     * @return 嵌套对象数据验证规则
+     */
+    public static Nested make() {
+        return new Nested();
+    }
+
+    /**
+     * 添加属性验证规则
+     *
+     * @param name  属性名称
+     * @param rules 属性验证规则
+     * @return 嵌套对象数据验证规则
+     */
+    public Nested property(@NonNull String name, @NonNull List<Rule<Object, ?>> rules) {
+        Assert.notNull(name, "[name] must not be null");
+        Assert.noNullElements(rules, "[rules] must not contain any null elements");
+
+        this.properties.computeIfAbsent(name, (key) -> new ArrayList<>()).addAll(rules);
+        this.programs = null;
+
+        return this;
+    }
+
+    /**
+     * 添加属性验证规则
+     *
+     * @param name  属性名称
+     * @param rules 属性验证规则
+     * @return 嵌套对象数据验证规则
+     */
+    @SafeVarargs
+    public final Nested property(@NonNull String name, @NonNull Rule<Object, ?>... rules) {
+        return this.property(name, List.of(rules));
+    }
+
+    /**
+     * 属性验证规则
+     *
+     * @return 属性验证规则
+     */
+    public Map<String, List<Rule<Object, ?>>> properties() {
+        return Collections.unmodifiableMap(this.properties);
+    }
+
+    /**
+     * 全部属性验证规则是否确定
+     *
+     * @return 是否确定
+     */
+    @Override
+    public boolean deterministic() {
+        if (this.inspecting) {
+            return true;
+        }
+
+        this.inspecting = true;
+
+        try {
+            for (List<Rule<Object, ?>> rules : this.properties.values()) {
+                for (Rule<Object, ?> rule : rules) {
+                    if (!rule.deterministic()) {
+                        return false;
+                    }
+                }
+            }
+
+            return true;
+        } finally {
+            this.inspecting = false;
+        }
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.nested";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        if (data == null) {
+            return true;
+        }
+
+        ObjectGraph graph = this.graph();
+        Boolean result = graph != null ? graph.enter(this, data) : null;
+
+        if (result != null) {
+            return result;
+        }
+
+        if (this.programs == null) {
+            this.compile();
+        } else if (this.rebind()) {
+            for (RuleProgram<Object> program : this.programs) {
+                this.bind(program);
+            }
+        }
+
+        ValueSource source = ValueSources.resolve(data.getClass());
+        boolean passed = true;
+
+        for (int i = 0; i < this.names.length && passed; i++) {
+            passed = this.test(this.programs[i], value(source, data, this.names[i]));
+
+            if (this.exceeded()) {
+                passed = false;
+
+                break;
+            }
+        }
+
+        if (graph != null) {
+            graph.exit(this, data, passed);
+        }
+
+        return passed;
+    }
+
+    /**
+     * 编译属性验证规则
+     */
+    @SuppressWarnings("unchecked")
+    private void compile() {
+        this.names = this.properties.keySet().toArray(new String[0]);
+        this.programs = new RuleProgram[this.names.length];
+
+        for (int i = 0; i < this.names.length; i++) {
+            this.programs[i] = RuleProgram.compile(new AllOf<>(new ArrayList<>(this.properties.get(this.names[i]))));
+            this.bind(this.programs[i]);
+        }
+
+        this.rebind();
+    }
+
+    /**
+     * 读取属性值
+     *
+     * @param source 验证字段值来源
+     * @param data   验证对象
+     * @param name   属性名称
+     * @return 属性值，读取失败时为 {@code null}
+     */
+    private static Object value(ValueSource source, Object data, String name) {
+        try {
+            return source.value(data, name);
+        } catch (Exception e) {
+            logger.debug("get value failed", e);
+
+            return null;
+        }
+    }
+
+}
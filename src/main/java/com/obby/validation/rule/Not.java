@@ -0,0 +1,107 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import com.obby.validation.RuleProgram;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.List;
+
+/**
+ * 取反组合验证规则类
+ *
+ * @param <T> 验证对象类型
+ * @author obby-xiang
+ * @since 2021-02-02
+ */
+public class Not<T> extends Rule<T, Not<T>> {
+
+    /**
+     * 验证规则
+     */
+    private final Rule<? super T, ?> rule;
+
+    /**
+     * 验证规则程序
+     */
+    private RuleProgram<T> program;
+
+    /**
+     * 构造
+     *
+     * @param rule 验证规则
+     */
+    public Not(@NonNull Rule<? super T, ?> rule) {
+        Assert.notNull(rule, "[rule] must not be null");
+
+        this.rule = rule;
+    }
+
+    /**
+     * 创建取反组合验证规则
+     *
+     * @param rule 验证规则
+     * @param <T>  验证对象类型
+     * @return 取反组合验证规则
+     */
+    public static <T> Not<T> make(@NonNull Rule<? super T, ?> rule) {
+        return new Not<>(rule);
+    }
+
+    /**
+     * 验证规则
+     *
+     * @return 验证规则
+     */
+    public Rule<? super T, ?> rule() {
+        return this.rule;
+    }
+
+    /**
+     * 验证规则是否确定
+     *
+     * @return 是否确定
+     */
+    @Override
+    public boolean deterministic() {
+        return this.rule.deterministic();
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        Object key = this.rule.definitionKey();
+
+        return key != null ? List.of(this.getClass(), key) : null;
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return null;
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(T data) {
+        if (this.program == null) {
+            this.program = RuleProgram.compile(this);
+        }
+
+        return this.program.test(data);
+    }
+
+}
@@ -20,6 +20,16 @@ public class Required extends Rule<Object, Required> {
         return new Required();
     }
 
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return this.getClass();
+    }
+
     /**
      * 默认验证消息
      *
@@ -0,0 +1,106 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.CrossFieldRule;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 条件必填数据验证规则类
+ * <p>
+ * 另一验证字段值为指定值之一时，验证对象为必填。
+ *
+ * @author obby-xiang
+ * @since 2021-02-06
+ */
+public class RequiredIf extends CrossFieldRule<Object, RequiredIf> {
+
+    /**
+     * 另一验证字段属性
+     */
+    private final String other;
+
+    /**
+     * 另一验证字段值
+     */
+    private final List<Object> values;
+
+    /**
+     * 构造
+     *
+     * @param other  另一验证字段属性
+     * @param values 另一验证字段值
+     */
+    public RequiredIf(@NonNull String other, @NonNull List<Object> values) {
+        Assert.notNull(other, "[other] must not be null");
+        Assert.notEmpty(values, "[values] must not be empty");
+        Assert.noNullElements(values, "[values] must not contain any null elements");
+
+        this.other = other;
+        this.values = List.copyOf(values);
+    }
+
+    /**
+     * 创建条件必填数据验证规则
+     *
+     * @param other  另一验证字段属性
+     * @param values 另一验证字段值
+     * @return 条件必填数据验证规则
+     */
+    public static RequiredIf make(@NonNull String other, @NonNull Object... values) {
+        return new RequiredIf(other, Arrays.asList(values));
+    }
+
+    /**
+     * 另一验证字段属性
+     *
+     * @return 另一验证字段属性
+     */
+    public String other() {
+        return this.other;
+    }
+
+    /**
+     * 另一验证字段值
+     *
+     * @return 另一验证字段值
+     */
+    public List<Object> values() {
+        return this.values;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.other, this.values);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.required_if";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        return !this.values.contains(this.value(this.other)) || ObjectUtils.isNotEmpty(data);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.CrossFieldRule;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 相同数据验证规则类
+ * <p>
+ * 验证对象须与另一验证字段值相同。
+ *
+ * @author obby-xiang
+ * @since 2021-02-06
+ */
+public class Same extends CrossFieldRule<Object, Same> {
+
+    /**
+     * 另一验证字段属性
+     */
+    private final String other;
+
+    /**
+     * 构造
+     *
+     * @param other 另一验证字段属性
+     */
+    public Same(@NonNull String other) {
+        Assert.notNull(other, "[other] must not be null");
+
+        this.other = other;
+    }
+
+    /**
+     * 创建相同数据验证规则
+     *
+     * @param other 另一验证字段属性
+     * @return 相同数据验证规则
+     */
+    public static Same make(@NonNull String other) {
+        return new Same(other);
+    }
+
+    /**
+     * 另一验证字段属性
+     *
+     * @return 另一验证字段属性
+     */
+    public String other() {
+        return this.other;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.other);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.same";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        return Objects.equals(data, this.value(this.other));
+    }
+
+}
@@ -0,0 +1,175 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 类型数据验证规则类
+ * <p>
+ * 验证对象须为 JSON Schema 类型之一：{@code string}、{@code number}、{@code integer}、{@code boolean}、
+ * {@code object}、{@code array} 或 {@code null}。验证对象为 {@code null} 时视为验证通过，是否必填由必填验证规则验证；
+ * 整数值的浮点数视为 {@code integer}。
+ *
+ * @author obby-xiang
+ * @since 2021-02-18
+ */
+public class Type extends Rule<Object, Type> {
+
+    private static final List<String> NAMES = List.of(
+            "string", "number", "integer", "boolean", "object", "array", "null"
+    );
+
+    private static final int STRING = 1;
+
+    private static final int NUMBER = 1 << 1;
+
+    private static final int INTEGER = 1 << 2;
+
+    private static final int BOOLEAN = 1 << 3;
+
+    private static final int OBJECT = 1 << 4;
+
+    private static final int ARRAY = 1 << 5;
+
+    /**
+     * 类型
+     */
+    private final List<String> types;
+
+    /**
+     * 类型掩码
+     */
+    private final int mask;
+
+    /**
+     * 构造
+     *
+     * @param types 类型
+     */
+    public Type(@NonNull List<String> types) {
+        Assert.notEmpty(types, "[types] must not be empty");
+
+        int mask = 0;
+
+        for (String type : types) {
+            int index = NAMES.indexOf(type);
+
+            Assert.isTrue(index >= 0, "unknown type [" + type + "]");
+
+            mask |= 1 << index;
+        }
+
+        this.types = List.copyOf(types);
+        this.mask = mask;
+    }
+
+    /**
+     * 创建类型数据验证规则
+     *
+     * @param types 类型
+     * @return 类型数据验证规则
+     */
+    public static Type make(@NonNull String... types) {
+        return new Type(Arrays.asList(types));
+    }
+
+    /**
+     * 类型
+     *
+     * @return 类型
+     */
+    public List<String> types() {
+        return this.types;
+    }
+
+    /**
+     * 验证规则定义键
+     *
+     * @return 验证规则定义键
+     */
+    @Override
+    public Object definitionKey() {
+        return List.of(this.getClass(), this.mask);
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return "validation.type";
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(Object data) {
+        return data == null || (this.mask & of(data)) != 0;
+    }
+
+    /**
+     * 数据类型掩码
+     *
+     * @param data 数据
+     * @return 类型掩码
+     */
+    private static int of(Object data) {
+        if (data instanceof CharSequence || data instanceof Character) {
+            return STRING;
+        }
+
+        if (data instanceof Boolean) {
+            return BOOLEAN;
+        }
+
+        if (data instanceof Number) {
+            return integral((Number) data) ? NUMBER | INTEGER : NUMBER;
+        }
+
+        if (data instanceof Iterable || data.getClass().isArray()) {
+            return ARRAY;
+        }
+
+        return OBJECT;
+    }
+
+    /**
+     * 是否为整数值
+     *
+     * @param number 数值
+     * @return 是否为整数值
+     */
+    private static boolean integral(Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short
+                || number instanceof Byte || number instanceof BigInteger) {
+            return true;
+        }
+
+        if (number instanceof Double || number instanceof Float) {
+            double value = number.doubleValue();
+
+            return !Double.isInfinite(value) && value == Math.rint(value);
+        }
+
+        try {
+            BigDecimal value = number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+
+            return value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+}
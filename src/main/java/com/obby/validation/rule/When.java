@@ -0,0 +1,116 @@
+package com.obby.validation.rule;
+
+import com.obby.validation.Rule;
+import com.obby.validation.RuleProgram;
+import com.obby.validation.Validator;
+import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * 条件组合验证规则类
+ * <p>
+ * 符合验证条件时验证，否则视为验证通过。
+ *
+ * @param <T> 验证对象类型
+ * @author obby-xiang
+ * @since 2021-02-02
+ */
+public class When<T> extends Rule<T, When<T>> {
+
+    /**
+     * 验证条件
+     */
+    private final Validator.ConditionClosure<T> condition;
+
+    /**
+     * 验证规则
+     */
+    private final Rule<? super T, ?> rule;
+
+    /**
+     * 验证规则程序
+     */
+    private RuleProgram<T> program;
+
+    /**
+     * 构造
+     *
+     * @param condition 验证条件
+     * @param rule      验证规则
+     */
+    public When(@NonNull Validator.ConditionClosure<T> condition, @NonNull Rule<? super T, ?> rule) {
+        Assert.notNull(condition, "[condition] must not be null");
+        Assert.notNull(rule, "[rule] must not be null");
+
+        this.condition = condition;
+        this.rule = rule;
+    }
+
+    /**
+     * 创建条件组合验证规则
+     *
+     * @param condition 验证条件
+     * @param rule      验证规则
+     * @param <T>       验证对象类型
+     * @return 条件组合验证规则
+     */
+    public static <T> When<T> make(@NonNull Validator.ConditionClosure<T> condition,
+                                   @NonNull Rule<? super T, ?> rule) {
+        return new When<>(condition, rule);
+    }
+
+    /**
+     * 验证条件
+     *
+     * @return 验证条件
+     */
+    public Validator.ConditionClosure<T> condition() {
+        return this.condition;
+    }
+
+    /**
+     * 验证规则
+     *
+     * @return 验证规则
+     */
+    public Rule<? super T, ?> rule() {
+        return this.rule;
+    }
+
+    /**
+     * 验证规则是否确定
+     *
+     * @return 是否确定
+     */
+    @Override
+    public boolean deterministic() {
+        return this.rule.deterministic();
+    }
+
+    /**
+     * 默认验证消息
+     *
+     * @return 默认验证消息
+     */
+    @Override
+    public String defaultMessage() {
+        return ObjectUtils.defaultIfNull(this.rule.customMessage(), this.rule.defaultMessage());
+    }
+
+    /**
+     * 测试数据
+     *
+     * @param data 测试对象
+     * @return 是否通过测试
+     */
+    @Override
+    public boolean test(T data) {
+        if (this.program == null) {
+            this.program = RuleProgram.compile(this);
+        }
+
+        return this.program.test(data);
+    }
+
+}
@@ -0,0 +1,163 @@
+package com.obby.validation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.lang3.ObjectUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JSON Schema 编译验证基准测试
+ * <p>
+ * 对比编译为数据验证器的 JSON Schema 与逐请求解释 JSON Schema（每次验证遍历定义、编译正则表达式并线性查找枚举值）的吞吐量。
+ * 运行：{@code mvn test -P benchmark}，可通过 {@code schema.iterations} 调整每轮验证次数。
+ */
+@Tag("benchmark")
+@SpringBootTest
+class JsonSchemaValidatorDefinitionBenchmarkTests {
+
+    private static final int ITERATIONS = Integer.getInteger("schema.iterations", 200_000);
+
+    @Test
+    public void benchmarkCompiledWhenComparedWithInterpretedThenReport() {
+        JsonObject schema = JsonParser.parseString(JsonSchemaValidatorDefinitionTests.SCHEMA).getAsJsonObject();
+        Validator validator = JsonSchemaValidatorDefinition.compile(schema).define();
+        Map<String, Object> data = JsonSchemaValidatorDefinitionTests.valid();
+
+        validator.validate(data);
+
+        assertFalse(validator.failed());
+        assertTrue(interpret(schema, data));
+
+        for (int round = 0; round < 3; round++) {
+            long compiled = this.measure(() -> validator.validate(data));
+            long interpreted = this.measure(() -> interpret(schema, data));
+
+            System.out.printf(
+                    "round %d: compiled %d ns/op, interpreted %d ns/op, speedup %.2fx%n",
+                    round, compiled, interpreted, (double) interpreted / compiled
+            );
+        }
+    }
+
+    private long measure(Runnable runnable) {
+        long started = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            runnable.run();
+        }
+
+        return (System.nanoTime() - started) / ITERATIONS;
+    }
+
+    private static boolean interpret(JsonObject schema, Object data) {
+        if (data == null) {
+            return true;
+        }
+
+        if (schema.has("type") && !type(schema.get("type").getAsString(), data)) {
+            return false;
+        }
+
+        if (data instanceof Number) {
+            double number = ((Number) data).doubleValue();
+
+            if ((schema.has("minimum") && number < schema.get("minimum").getAsDouble())
+                    || (schema.has("exclusiveMaximum") && number >= schema.get("exclusiveMaximum").getAsDouble())) {
+                return false;
+            }
+        }
+
+        if (data instanceof String) {
+            String string = (String) data;
+            int length = string.codePointCount(0, string.length());
+
+            if ((schema.has("minLength") && length < schema.get("minLength").getAsInt())
+                    || (schema.has("maxLength") && length > schema.get("maxLength").getAsInt())) {
+                return false;
+            }
+
+            if (schema.has("pattern") && !Pattern.compile(schema.get("pattern").getAsString()).matcher(string).find()) {
+                return false;
+            }
+        }
+
+        if (schema.has("enum") && !contains(schema.getAsJsonArray("enum"), data)) {
+            return false;
+        }
+
+        if (data instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) data;
+
+            if (schema.has("required")) {
+                for (JsonElement required : schema.getAsJsonArray("required")) {
+                    if (ObjectUtils.isEmpty(map.get(required.getAsString()))) {
+                        return false;
+                    }
+                }
+            }
+
+            if (schema.has("properties")) {
+                for (Map.Entry<String, JsonElement> property : schema.getAsJsonObject("properties").entrySet()) {
+                    if (!interpret(property.getValue().getAsJsonObject(), map.get(property.getKey()))) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        if (data instanceof Collection) {
+            if (schema.has("maxItems") && ((Collection<?>) data).size() > schema.get("maxItems").getAsInt()) {
+                return false;
+            }
+
+            if (schema.has("items")) {
+                for (Object item : (Collection<?>) data) {
+                    if (!interpret(schema.getAsJsonObject("items"), item)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean type(String type, Object data) {
+        switch (type) {
+            case "string":
+                return data instanceof String;
+            case "integer":
+                return data instanceof Number && ((Number) data).doubleValue() % 1 == 0;
+            case "object":
+                return data instanceof Map;
+            case "array":
+                return data instanceof Collection;
+            default:
+                return true;
+        }
+    }
+
+    private static boolean contains(JsonArray values, Object data) {
+        for (JsonElement value : values) {
+            if (data instanceof Number && value.getAsJsonPrimitive().isNumber()
+                    ? ((Number) data).doubleValue() == value.getAsDouble()
+                    : value.getAsString().equals(String.valueOf(data))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
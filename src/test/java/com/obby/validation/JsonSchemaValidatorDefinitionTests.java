@@ -0,0 +1,153 @@
+package com.obby.validation;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class JsonSchemaValidatorDefinitionTests {
+
+    static final String SCHEMA = "{"
+            + "\"type\": \"object\","
+            + "\"required\": [\"name\", \"age\"],"
+            + "\"properties\": {"
+            + "  \"name\": {\"type\": \"string\", \"minLength\": 2, \"maxLength\": 8, \"pattern\": \"^[a-z]+$\"},"
+            + "  \"age\": {\"type\": \"integer\", \"minimum\": 0, \"exclusiveMaximum\": 150},"
+            + "  \"role\": {\"enum\": [\"admin\", \"user\", 1]},"
+            + "  \"address\": {"
+            + "    \"type\": \"object\","
+            + "    \"required\": [\"city\"],"
+            + "    \"properties\": {\"city\": {\"type\": \"string\"}, \"zip\": {\"pattern\": \"^\\\\d{6}$\"}}"
+            + "  },"
+            + "  \"tags\": {\"type\": \"array\", \"maxItems\": 2, \"items\": {\"type\": \"string\", \"minLength\": 1}}"
+            + "}"
+            + "}";
+
+    static Map<String, Object> valid() {
+        Map<String, Object> data = new HashMap<>();
+
+        data.put("name", "obby");
+        data.put("age", 18.0);
+        data.put("role", 1.0);
+        data.put("address", Map.of("city", "Shenzhen", "zip", "518000"));
+        data.put("tags", List.of("foo", "bar"));
+
+        return data;
+    }
+
+    @Test
+    public void checkSchemaWhenValidThenPassed() {
+        Validator validator = JsonSchemaValidatorDefinition.compile(JsonParser.parseString(SCHEMA)).define();
+
+        validator.validate(valid());
+
+        assertFalse(validator.failed(), () -> validator.errors().toString());
+    }
+
+    @Test
+    public void checkSchemaWhenInvalidThenFailedPerKeyword() {
+        Validator validator = JsonSchemaValidatorDefinition.compile(JsonParser.parseString(SCHEMA)).define();
+        Map<String, Object> data = valid();
+
+        data.put("name", "OBBY");
+        data.put("age", 150);
+        data.put("role", "guest");
+        data.put("address", Map.of("zip", "51800"));
+        data.put("tags", List.of("foo", ""));
+
+        validator.validate(data);
+
+        assertEquals(List.of("format is invalid"), validator.errors("name"));
+        assertEquals(List.of("must be less than 150"), validator.errors("age"));
+        assertEquals(List.of("must be one of [admin, user, 1]"), validator.errors("role"));
+        assertEquals(List.of("has invalid properties"), validator.errors("address"));
+        assertEquals(List.of("length must be at least 1"), validator.errors("tags"));
+
+        data.remove("name");
+        data.put("age", 1.5);
+        data.put("tags", List.of("foo", "bar", "baz"));
+
+        validator.validate(data);
+
+        assertEquals(List.of("is required"), validator.errors("name"));
+        assertEquals(List.of("must be of type [integer]"), validator.errors("age"));
+        assertEquals(List.of("length must be at most 2"), validator.errors("tags"));
+    }
+
+    @Test
+    public void checkLengthWhenTypeNotApplicableThenPassed() {
+        Validator strings = JsonSchemaValidatorDefinition.compile(
+                JsonParser.parseString("{\"type\": [\"string\", \"array\"], \"minLength\": 3}")
+        ).define();
+
+        strings.validate(List.of("x"));
+
+        assertFalse(strings.failed(), () -> strings.errors().toString());
+
+        strings.validate("x");
+
+        assertTrue(strings.failed());
+
+        Validator items = JsonSchemaValidatorDefinition.compile(JsonParser.parseString("{\"maxItems\": 1}")).define();
+
+        items.validate("hello");
+
+        assertFalse(items.failed(), () -> items.errors().toString());
+
+        items.validate(List.of("foo", "bar"));
+
+        assertTrue(items.failed());
+    }
+
+    @Test
+    public void checkCompileWhenPropertyEmptyThenSkipped() {
+        Validator validator = JsonSchemaValidatorDefinition.compile(JsonParser.parseString("{"
+                + "\"properties\": {"
+                + "  \"foo\": {\"description\": \"Foo\"},"
+                + "  \"bar\": {\"properties\": {\"baz\": {}}},"
+                + "  \"qux\": {\"properties\": {\"baz\": {}, \"quux\": {\"type\": \"string\"}}}"
+                + "}"
+                + "}")).define();
+
+        assertEquals(1, validator.fieldValidators().size());
+
+        validator.validate(Map.of("foo", 1, "bar", Map.of("baz", 1), "qux", Map.of("baz", 1, "quux", "Quux")));
+
+        assertFalse(validator.failed(), () -> validator.errors().toString());
+
+        validator.validate(Map.of("qux", Map.of("quux", 1)));
+
+        assertEquals(List.of("has invalid properties"), validator.errors("qux"));
+    }
+
+    @Test
+    public void checkCompileWhenSchemaInvalidThenJsonParseException() {
+        assertThrows(
+                JsonParseException.class,
+                () -> JsonSchemaValidatorDefinition.compile(JsonParser.parseString("{\"type\": \"text\"}"))
+        );
+        assertThrows(
+                JsonParseException.class,
+                () -> JsonSchemaValidatorDefinition.compile(JsonParser.parseString("{\"pattern\": \"[\"}"))
+        );
+        assertTrue(
+                JsonSchemaValidatorDefinition.compile(JsonParser.parseString("{}")).define().fieldValidators().isEmpty()
+        );
+        assertNotEquals(
+                JsonSchemaValidatorDefinition.compile(JsonParser.parseString(SCHEMA)).version(),
+                JsonSchemaValidatorDefinition.compile(JsonParser.parseString("{}")).version()
+        );
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.obby.validation;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.obby.validation.rule.AnyOf;
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonValidatorDefinitionsTests {
+
+    private static final String FOO = "{\"fieldValidators\": [{\"attribute\": \"foo\", \"rules\": ["
+            + "{\"type\": \"required\"}, {\"type\": \"anyOf\", \"rules\": [{\"type\": \"required\"}], \"message\": \"m\"}"
+            + "]}]}";
+
+    private static final String FOO_BAR = "{\"bail\": true, \"fieldValidators\": ["
+            + "{\"attribute\": \"foo\", \"rules\": [{\"type\": \"required\"}]},"
+            + "{\"attribute\": \"bar\", \"rules\": [{\"type\": \"required\"}]}"
+            + "]}";
+
+    @Test
+    public void checkCompileWhenValidDefinitionThenValidator() {
+        Validator validator = JsonValidatorDefinition.compile(JsonParser.parseString(FOO)).define();
+        Validator.FieldValidator<?> fieldValidator = validator.fieldValidators().get(0);
+
+        assertEquals("foo", fieldValidator.attribute());
+        assertTrue(fieldValidator.rules().get(0) instanceof Required);
+        assertTrue(fieldValidator.rules().get(1) instanceof AnyOf);
+        assertEquals("m", fieldValidator.rules().get(1).customMessage());
+    }
+
+    @Test
+    public void checkCompileWhenUnknownRuleThenFailure() {
+        assertThrows(
+                JsonParseException.class,
+                () -> JsonValidatorDefinition.compile(
+                        JsonParser.parseString("{\"fieldValidators\": [{\"rules\": [{\"type\": \"unknown\"}]}]}")
+                )
+        );
+    }
+
+    @Test
+    public void checkReloadWhenFileChangedThenSwapDefinition(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("form.json");
+
+        Files.write(file, FOO.getBytes(StandardCharsets.UTF_8));
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        JsonValidatorDefinitions definitions = new JsonValidatorDefinitions(beanFactory, directory.toString());
+
+        try {
+            definitions.afterPropertiesSet();
+
+            ValidatorDefinition definition = beanFactory.getBean("form", ValidatorDefinition.class);
+            ValidatorDefinition current = definition.current();
+
+            assertSame(definitions.definition("form"), definition);
+            assertEquals(1, definition.define().fieldValidators().size());
+
+            Files.write(file, FOO_BAR.getBytes(StandardCharsets.UTF_8));
+
+            for (int i = 0; i < 100 && definition.current() == current; i++) {
+                Thread.sleep(100);
+            }
+
+            assertNotSame(current, definition.current());
+            assertEquals(2, definition.define().fieldValidators().size());
+            assertTrue(definition.define().bail());
+        } finally {
+            definitions.destroy();
+        }
+    }
+
+}
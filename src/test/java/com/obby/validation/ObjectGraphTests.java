@@ -0,0 +1,121 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.Nested;
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ObjectGraphTests {
+
+    @Test
+    public void checkGraphWhenChildSharedThenValidatedOnce() {
+        AtomicInteger tests = new AtomicInteger();
+        Nested product = Nested.make()
+                .property("sku", Required.make(), ClosureRule.make((data, fail) -> tests.incrementAndGet()));
+        Validator validator = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("lines")
+                                .rule(Each.make(Nested.make().property("product", Required.make(), product)))
+                )
+                .graph(true);
+        Map<String, Object> shared = Map.of("sku", "P-1");
+        List<Object> lines = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            lines.add(Map.of("product", shared));
+        }
+
+        validator.validate(Map.of("lines", lines));
+
+        assertFalse(validator.failed());
+        assertEquals(1, tests.get());
+        assertEquals(200, validator.objectGraph().references());
+        assertEquals(101, validator.objectGraph().objects());
+        assertEquals(99, validator.objectGraph().hits());
+
+        validator.graph(false).validate(Map.of("lines", lines));
+
+        assertEquals(101, tests.get());
+        assertNull(validator.objectGraph());
+    }
+
+    @Test
+    public void checkGraphWhenCycleThenTerminated() {
+        Nested node = Nested.make();
+
+        node.property("name", Required.make()).property("children", Each.make(node));
+
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().rule(node))
+                .graph(true);
+        Map<String, Object> root = new HashMap<>();
+        Map<String, Object> child = new HashMap<>();
+
+        root.put("name", "root");
+        root.put("children", List.of(child));
+        child.put("name", "child");
+        child.put("children", List.of(root, child));
+
+        validator.validate(root);
+
+        assertFalse(validator.failed());
+        assertEquals(2, validator.objectGraph().cycles());
+        assertTrue(node.deterministic());
+
+        child.put("children", Collections.singletonList(Map.of("children", List.of(root))));
+
+        validator.validate(root);
+
+        assertTrue(validator.failed());
+    }
+
+    @Test
+    public void checkGraphWhenCycleRootFailedThenDependentsFailed() {
+        Nested node = Nested.make();
+
+        node.property("children", Each.make(node)).property("name", Required.make());
+
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("first").rule(node))
+                .fieldValidator(Validator.FieldValidator.make().attribute("second").rule(node))
+                .graph(true);
+        Map<String, Object> root = new HashMap<>();
+        Map<String, Object> child = new HashMap<>();
+
+        root.put("children", List.of(child));
+        child.put("children", List.of(root));
+        child.put("name", "child");
+
+        validator.validate(Map.of("first", root, "second", child));
+
+        assertEquals(Set.of("first", "second"), validator.errors().keySet());
+
+        validator.validate(Map.of("first", child, "second", root));
+
+        assertEquals(Set.of("first", "second"), validator.errors().keySet());
+
+        root.put("name", "root");
+
+        validator.validate(Map.of("first", root, "second", child));
+
+        assertFalse(validator.failed());
+        assertEquals(1, validator.objectGraph().hits());
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ReactiveValidatorTests {
+
+    private static final ValidatorDefinition definition = () -> Validator.make()
+            .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()));
+
+    @Test
+    public void checkValidateWhenLocaleInContextThenRenderWithLocale() {
+        Validated<Map<String, String>> validated = ReactiveValidator.make(definition)
+                .validate(Mono.just(Collections.<String, String>emptyMap()))
+                .contextWrite(ReactiveValidator.locale(Locale.SIMPLIFIED_CHINESE))
+                .block();
+
+        assertTrue(validated.failed());
+        assertEquals(Locale.SIMPLIFIED_CHINESE, validated.violations().locale());
+        assertTrue(validated.errors().get("foo").get(0).contains("必填"));
+    }
+
+    @Test
+    public void checkValidateWhenFluxThenResultPerElement() {
+        List<Validated<Map<String, String>>> results = ReactiveValidator.make(definition)
+                .validate(Flux.just(Map.of("foo", "Foo"), Collections.<String, String>emptyMap(), Map.of("foo", "")))
+                .contextWrite(ReactiveValidator.locale(Locale.ENGLISH))
+                .collectList()
+                .block();
+
+        assertEquals(3, results.size());
+        assertFalse(results.get(0).failed());
+        assertTrue(results.get(1).failed());
+        assertTrue(results.get(2).failed());
+        assertEquals("Foo", results.get(0).data().get("foo"));
+    }
+
+    @Test
+    public void checkValidateWhenUnboundedSourceThenRequestBounded() {
+        Scheduler scheduler = Schedulers.newSingle("validation-test");
+        AtomicLong requested = new AtomicLong();
+
+        try {
+            List<Validated<Map<String, String>>> results = ReactiveValidator.make(definition)
+                    .scheduler(scheduler)
+                    .prefetch(8)
+                    .validate(
+                            Flux.<Map<String, String>>generate((sink) -> sink.next(Map.of("foo", "Foo")))
+                                    .doOnRequest((n) -> requested.addAndGet(Math.min(n, Integer.MAX_VALUE)))
+                    )
+                    .take(20)
+                    .collectList()
+                    .block();
+
+            assertEquals(20, results.size());
+            assertTrue(requested.get() <= 20 + 8 * 2, "requested " + requested.get());
+        } finally {
+            scheduler.dispose();
+        }
+    }
+
+    @Test
+    public void checkValidateWhenBudgetExceededThenFailed() {
+        ReactiveValidator validator = ReactiveValidator.make(() -> Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .budget(Budget.make().rules(1)));
+        Map<String, String> data = Map.of("foo", "Foo", "bar", "Bar");
+        Validated<Map<String, String>> validated = validator.validate(Mono.just(data))
+                .contextWrite(ReactiveValidator.locale(Locale.ENGLISH))
+                .block();
+
+        assertTrue(validated.exceeded());
+        assertTrue(validated.failed());
+        assertEquals(List.of("validation budget exceeded"), validated.errors().get(Validator.ATTRIBUTE_OF_DATA));
+        assertThrows(BudgetExceededException.class, () -> validator.require(Mono.just(data)).block());
+    }
+
+    @Test
+    public void checkRequireWhenErrorsCappedThenTruncated() {
+        ReactiveValidator validator = ReactiveValidator.make(() -> Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .maxErrors(1));
+        Validated<Map<String, String>> validated = validator.validate(Mono.just(Collections.<String, String>emptyMap()))
+                .block();
+
+        assertTrue(validated.truncated());
+        assertEquals(Set.of("foo"), validated.errors().keySet());
+
+        ValidationException exception = assertThrows(
+                ValidationException.class,
+                () -> validator.require(Mono.just(Collections.<String, String>emptyMap())).block()
+        );
+
+        assertTrue(exception.isTruncated());
+    }
+
+    @Test
+    public void checkRequireWhenInvalidThenValidationException() {
+        ReactiveValidator validator = ReactiveValidator.make(definition);
+
+        assertEquals("Foo", validator.require(Mono.just(Map.of("foo", "Foo"))).block().get("foo"));
+        assertThrows(
+                ValidationException.class,
+                () -> validator.require(Mono.just(Collections.<String, String>emptyMap())).block()
+        );
+    }
+
+}
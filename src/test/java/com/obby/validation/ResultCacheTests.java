@@ -0,0 +1,163 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.Nested;
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ResultCacheTests {
+
+    @Test
+    public void checkCacheWhenSameNormalizedInputThenHit() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultCache cache = ResultCache.make(100, Duration.ofMinutes(1));
+        Validator validator = validator(cache, ClosureRule.make((data, fail) -> {
+            calls.incrementAndGet();
+            fail.message("validation.invalid");
+        })).locale(Locale.ENGLISH);
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        Map<String, Object> second = new LinkedHashMap<>();
+
+        first.put("foo", "Foo");
+        first.put("bar", 1.0);
+        second.put("bar", 1);
+        second.put("foo", "Foo");
+
+        validator.validate(first);
+        validator.validate(second);
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertTrue(validator.failed("foo"));
+        assertEquals(1, validator.violations().size());
+        assertEquals("validation.invalid", validator.violations().key(0));
+
+        validator.locale(Locale.SIMPLIFIED_CHINESE).validate(second);
+        validator.locale(Locale.ENGLISH).version("2").validate(second);
+
+        assertEquals(3, calls.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void checkCacheWhenCompactThenViolationsRestored() {
+        ResultCache cache = ResultCache.make(100, Duration.ofMinutes(1));
+        Validator validator = validator(cache, ClosureRule.make((data, fail) -> {
+        })).locale(Locale.ENGLISH).compact(true);
+
+        validator.validate(new HashMap<>());
+
+        assertEquals(1, cache.size());
+
+        Validator other = validator(cache, ClosureRule.make((data, fail) -> {
+        })).locale(Locale.ENGLISH).compact(true);
+
+        other.validate(new HashMap<>());
+
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, other.violations().size());
+        assertEquals("foo", other.violations().attribute(0));
+        assertEquals(List.of("is required"), other.errors("foo"));
+    }
+
+    @Test
+    public void checkCacheWhenVersionNullThenBypass() {
+        ResultCache cache = ResultCache.make(100, Duration.ofMinutes(1));
+        Validator first = Validator.make()
+                .cache(cache)
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()));
+        Validator second = Validator.make()
+                .cache(cache)
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+
+        first.validate(new HashMap<>());
+        second.validate(new HashMap<>());
+
+        assertTrue(first.failed("foo"));
+        assertTrue(second.failed("bar"));
+        assertFalse(second.failed("foo"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void checkCacheWhenNonDeterministicRuleThenBypass() {
+        AtomicInteger calls = new AtomicInteger();
+        ResultCache cache = ResultCache.make(100, Duration.ofMinutes(1));
+        Validator validator = validator(
+                cache, ClosureRule.make((data, fail) -> calls.incrementAndGet()).deterministic(false)
+        );
+
+        validator.validate(Map.of("foo", "Foo"));
+        validator.validate(Map.of("foo", "Foo"));
+
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+        assertNull(validator.violations());
+    }
+
+    @Test
+    public void checkCacheWhenDataCyclicThenBypass() {
+        ResultCache cache = ResultCache.make(100, Duration.ofMinutes(1));
+        Validator validator = validator(cache, ClosureRule.make((data, fail) -> {
+        })).locale(Locale.ENGLISH);
+        Map<String, Object> data = new HashMap<>();
+        List<Object> children = new ArrayList<>();
+
+        data.put("foo", "Foo");
+        data.put("children", children);
+        children.add(data);
+
+        validator.validate(data);
+
+        assertFalse(validator.failed());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void checkCacheWhenGraphModeThenBypass() {
+        ResultCache cache = ResultCache.make(100, Duration.ofMinutes(1));
+        Nested node = Nested.make();
+
+        node.property("children", Each.make(node));
+
+        Validator validator = Validator.make()
+                .cache(cache)
+                .version("1")
+                .fieldValidator(Validator.FieldValidator.make().rule(node))
+                .graph(true);
+        Map<String, Object> root = new HashMap<>();
+
+        root.put("children", List.of(root));
+
+        validator.validate(root);
+
+        assertFalse(validator.failed());
+        assertEquals(0, cache.size());
+        assertEquals(1, validator.objectGraph().cycles());
+    }
+
+    private static Validator validator(ResultCache cache, ClosureRule<Object> rule) {
+        return Validator.make()
+                .cache(cache)
+                .version("1")
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()).rule(rule));
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.AllOf;
+import com.obby.validation.rule.AnyOf;
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.Not;
+import com.obby.validation.rule.Required;
+import com.obby.validation.rule.When;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleProgramTests {
+
+    @Test
+    public void checkAllOfWhenAnyRuleFailsThenFailure() {
+        RuleProgram<Object> program = RuleProgram.compile(AllOf.make(Required.make(), Not.make(Required.make())));
+
+        assertFalse(program.test("foo"));
+        assertFalse(program.test(""));
+    }
+
+    @Test
+    public void checkAnyOfWhenAnyRulePassesThenSuccess() {
+        RuleProgram<Object> program = RuleProgram.compile(AnyOf.make(Required.make(), Not.make(Required.make())));
+
+        assertTrue(program.test("foo"));
+        assertTrue(program.test(""));
+    }
+
+    @Test
+    public void checkAllOfWhenFirstRuleFailsThenShortCircuit() {
+        AtomicInteger count = new AtomicInteger();
+        ClosureRule<Object> counter = ClosureRule.make((data, fail) -> count.incrementAndGet());
+
+        assertFalse(RuleProgram.compile(AllOf.make(Required.make(), counter)).test(null));
+        assertEquals(0, count.get());
+
+        assertTrue(RuleProgram.compile(AnyOf.make(Not.make(Required.make()), counter)).test(null));
+        assertEquals(0, count.get());
+    }
+
+    @Test
+    public void checkWhenWhenConditionRejectedThenSuccess() {
+        RuleProgram<String> program = RuleProgram.compile(When.make((String data) -> data != null, Required.make()));
+
+        assertTrue(program.test(null));
+        assertFalse(program.test(""));
+        assertTrue(program.test("foo"));
+    }
+
+    @Test
+    public void checkEachWhenAnyElementFailsThenFailure() {
+        RuleProgram<Object> program = RuleProgram.compile(Each.make(Required.make()));
+
+        assertTrue(program.test(null));
+        assertTrue(program.test(Arrays.asList("foo", "bar")));
+        assertFalse(program.test(Arrays.asList("foo", "")));
+        assertFalse(program.test(new String[]{"", "bar"}));
+        assertTrue(program.test(Collections.singletonMap("foo", "bar")));
+    }
+
+    @Test
+    public void checkRootsWhenBailThenStopAtFirstFailure() {
+        List<Rule<? super Object, ?>> rules = Arrays.asList(
+                Required.make(), AllOf.make(Required.make(), Required.make()), Required.make()
+        );
+        RuleProgram<Object> program = RuleProgram.compile(rules);
+        boolean[] failures = new boolean[rules.size()];
+
+        assertEquals(3, program.execute("", false, failures));
+        assertArrayEquals(new boolean[]{true, true, true}, failures);
+
+        assertEquals(1, program.execute("", true, failures));
+        assertTrue(failures[0]);
+
+        assertEquals(3, program.execute("foo", true, failures));
+        assertArrayEquals(new boolean[]{false, false, false}, failures);
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ShadowTests {
+
+    @Test
+    public void checkShadowWhenCandidateDiffersThenMismatchRecorded() throws InterruptedException {
+        ValidatorDefinition candidate = () -> Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+
+        try (Shadow shadow = Shadow.make(ValidatorPool.threadLocal(candidate), 1, 8)) {
+            Validator validator = Validator.make()
+                    .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                    .shadow(shadow);
+
+            validator.validate(Map.of("foo", "Foo"));
+
+            assertFalse(validator.failed());
+
+            validator.validate(new HashMap<>());
+
+            assertEquals(List.of("is required"), validator.errors("foo"));
+
+            await(shadow::completed, 2);
+
+            assertEquals(2, shadow.sampled());
+            assertEquals(0, shadow.dropped());
+            assertEquals(1, shadow.mismatches());
+            assertEquals(2, shadow.divergences());
+        }
+    }
+
+    @Test
+    public void checkShadowWhenQueueFullThenSampleDropped() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        ValidatorDefinition candidate = () -> Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().rule(ClosureRule.make((data, fail) -> {
+                    started.countDown();
+
+                    try {
+                        blocked.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                })));
+
+        try (Shadow shadow = Shadow.make(ValidatorPool.threadLocal(candidate), 1, 1)) {
+            Validator validator = Validator.make()
+                    .fieldValidator(Validator.FieldValidator.make().rule(Required.make()))
+                    .shadow(shadow);
+
+            validator.validate("foo");
+
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            validator.validate("bar");
+            validator.validate("baz");
+
+            assertEquals(2, shadow.sampled());
+            assertEquals(1, shadow.dropped());
+
+            blocked.countDown();
+
+            await(shadow::completed, 2);
+
+            assertEquals(0, shadow.mismatches());
+        }
+    }
+
+    @Test
+    public void checkShadowWhenCandidateExceedsBudgetThenErrorRecorded() throws InterruptedException {
+        ValidatorDefinition candidate = () -> Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+        ValidatorPool candidates = ValidatorPool.threadLocal(candidate)
+                .configurer((validator) -> validator.budget(Budget.make().rules(1)));
+
+        try (Shadow shadow = Shadow.make(candidates, 1, 8)) {
+            Validator validator = Validator.make()
+                    .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                    .shadow(shadow);
+
+            validator.validate(new HashMap<>());
+
+            await(shadow::errors, 1);
+
+            assertEquals(0, shadow.completed());
+            assertEquals(0, shadow.divergences());
+        }
+    }
+
+    private static void await(LongSupplier counter, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while (counter.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(expected, counter.getAsLong());
+    }
+
+}
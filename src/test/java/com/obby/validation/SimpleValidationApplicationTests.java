@@ -3,21 +3,34 @@ package com.obby.validation;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.Gson;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.RequestBuilder;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
 @AutoConfigureMockMvc
-@TestPropertySource(properties = "logging.level.org.springframework.web=DEBUG")
+@TestPropertySource(properties = {
+        "logging.level.org.springframework.web=DEBUG",
+        "validation.trace.header-enabled=true"
+})
+@ExtendWith(OutputCaptureExtension.class)
 class SimpleValidationApplicationTests {
 
     @Autowired
@@ -26,6 +39,58 @@ class SimpleValidationApplicationTests {
     @Autowired
     private Gson gson;
 
+    @Autowired
+    private ValidationWarmup warmup;
+
+    @Autowired
+    private ValidationRequestBodyAdvice advice;
+
+    @Test
+    public void checkWarmupWhenReadyThenValidatorsExercised() {
+        assertTrue(this.warmup.validations() > 0);
+        assertTrue(this.warmup.nanos() > 0);
+    }
+
+    @Test
+    public void checkWarmupWhenThreadLocalPoolThenRequestThreadCreatesAndReuses() throws Exception {
+        assertEquals(1, this.advice.pools().size());
+
+        ValidatorPool pool = this.advice.pools().values().iterator().next();
+        long created = pool.created();
+        long reused = pool.reused();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> this.mockMvc.perform(valid()).andExpect(status().isOk())).get();
+            executor.submit(() -> this.mockMvc.perform(valid()).andExpect(status().isOk())).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(created + 1, pool.created());
+        assertEquals(reused + 1, pool.reused());
+    }
+
+    @Test
+    public void checkBulkWhenNdjsonThenResultPerRecord() throws Exception {
+        RequestBuilder request = post("/bulk")
+                .contentType("application/x-ndjson")
+                .content("{\"foo\":\"Foo\",\"bar\":\"Bar\"}\n{\"bar\":\"Bar\"}\n\n[]\n");
+
+        String[] lines = this.mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString()
+                .split("\n");
+
+        assertEquals(3, lines.length);
+        assertEquals("{\"line\":1,\"valid\":true}", lines[0]);
+        assertEquals("{\"line\":2,\"valid\":false,\"errors\":{\"foo\":[\"is required\"]}}", lines[1]);
+        assertTrue(lines[2].startsWith("{\"line\":4,\"valid\":false,\"error\":"), lines[2]);
+    }
+
     @Test
     public void checkFormWhenFooMissingThenFailure() throws Exception {
         RequestBuilder request = post("/")
@@ -75,14 +140,31 @@ class SimpleValidationApplicationTests {
     }
 
     @Test
-    public void checkFormWhenValidRequestThenSuccess() throws Exception {
+    public void checkFormWhenTraceRequestedThenFailureAndTraceLogged(CapturedOutput output) throws Exception {
         RequestBuilder request = post("/")
                 .contentType(MediaType.APPLICATION_JSON)
-                .content(this.gson.toJson(ImmutableMap.builder().put("foo", "Foo").put("bar", "Bar").build()));
+                .header(ValidationRequestBodyAdvice.TRACE_HEADER, "true")
+                .content(this.gson.toJson(ImmutableMap.of("foo", "Foo")));
 
         this.mockMvc.perform(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("errors.bar").isArray());
+
+        assertTrue(output.getOut().contains("\"type\":\"validator\""), output::getOut);
+        assertTrue(output.getOut().contains("\"type\":\"fieldValidator\",\"name\":\"bar\""), output::getOut);
+    }
+
+    @Test
+    public void checkFormWhenValidRequestThenSuccess() throws Exception {
+        this.mockMvc.perform(valid())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("errors").doesNotExist());
     }
 
+    private RequestBuilder valid() {
+        return post("/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.gson.toJson(ImmutableMap.builder().put("foo", "Foo").put("bar", "Bar").build()));
+    }
+
 }
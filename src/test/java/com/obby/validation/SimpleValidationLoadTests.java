@@ -0,0 +1,133 @@
+package com.obby.validation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 端到端 HTTP 吞吐量及延迟基准测试
+ * <p>
+ * 以固定速率从本地线程请求随机端口启动的应用，延迟从计划发送时间开始计算（避免协调遗漏），
+ * 输出吞吐量及 p50/p99/p999 延迟分布。运行：{@code mvn test -P benchmark}，
+ * 可通过 {@code load.rate}（每秒请求数）、{@code load.seconds}、{@code load.warmup-seconds}、{@code load.threads} 调整。
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SimpleValidationLoadTests {
+
+    private static final int RATE = Integer.getInteger("load.rate", 500);
+
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 3);
+
+    private static final int THREADS = Integer.getInteger("load.threads", 4);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Gson gson;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    public void loadWhenValidPayloadThenReport() throws Exception {
+        String payload = this.gson.toJson(ImmutableMap.of("foo", "Foo", "bar", "Bar"));
+
+        this.run(payload, 200, WARMUP_SECONDS);
+        this.report("valid", this.run(payload, 200, SECONDS));
+    }
+
+    @Test
+    public void loadWhenInvalidPayloadThenReport() throws Exception {
+        String payload = this.gson.toJson(ImmutableMap.of("bar", "Bar"));
+
+        this.run(payload, 422, WARMUP_SECONDS);
+        this.report("invalid", this.run(payload, 422, SECONDS));
+    }
+
+    private Histogram run(String payload, int status, int seconds) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + this.port + "/"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(payload))
+                .build();
+        long interval = TimeUnit.SECONDS.toNanos(1) * THREADS / RATE;
+        long count = (long) RATE * seconds / THREADS;
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Histogram>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            long offset = interval * i / THREADS;
+
+            futures.add(executor.submit(() -> {
+                Histogram histogram = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+
+                for (long k = 0; k < count; k++) {
+                    long intended = start + offset + k * interval;
+
+                    while (System.nanoTime() < intended) {
+                        LockSupport.parkNanos(intended - System.nanoTime());
+                    }
+
+                    HttpResponse<String> response = this.client.send(request, HttpResponse.BodyHandlers.ofString());
+
+                    histogram.recordValue(Math.min(System.nanoTime() - intended, histogram.getHighestTrackableValue()));
+                    assertEquals(status, response.statusCode());
+                }
+
+                return histogram;
+            }));
+        }
+
+        Histogram histogram = new Histogram(TimeUnit.MINUTES.toNanos(1), 3);
+
+        for (Future<Histogram> future : futures) {
+            histogram.add(future.get());
+        }
+
+        histogram.setStartTimeStamp(TimeUnit.NANOSECONDS.toMillis(start));
+        histogram.setEndTimeStamp(TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+        executor.shutdown();
+
+        return histogram;
+    }
+
+    private void report(String name, Histogram histogram) {
+        double seconds = (histogram.getEndTimeStamp() - histogram.getStartTimeStamp()) / 1000.0;
+
+        System.out.printf(
+                "%n[%s] requests: %d, throughput: %.1f req/s, latency (us) p50: %.1f, p99: %.1f, p999: %.1f, max: %.1f%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0
+        );
+        histogram.outputPercentileDistribution(System.out, 1000.0);
+    }
+
+}
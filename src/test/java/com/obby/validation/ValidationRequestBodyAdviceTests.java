@@ -0,0 +1,43 @@
+package com.obby.validation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class ValidationRequestBodyAdviceTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Gson gson;
+
+    @Test
+    public void checkTraceHeaderWhenNotEnabledThenIgnored(CapturedOutput output) throws Exception {
+        RequestBuilder request = post("/")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(ValidationRequestBodyAdvice.TRACE_HEADER, "true")
+                .content(this.gson.toJson(ImmutableMap.of("foo", "Foo")));
+
+        this.mockMvc.perform(request).andExpect(status().isUnprocessableEntity());
+
+        assertFalse(output.getOut().contains("\"type\":\"fieldValidator\""), output::getOut);
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.obby.validation;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "validation.pool.capacity=2")
+@AutoConfigureMockMvc
+class ValidationWarmupTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Gson gson;
+
+    @Autowired
+    private ValidationRequestBodyAdvice advice;
+
+    @Test
+    public void checkWarmupWhenBoundedPoolThenRequestThreadReusesWarmedValidator() throws Exception {
+        ValidatorPool pool = this.advice.pools().values().iterator().next();
+
+        assertEquals(1, pool.created());
+        assertEquals(1, pool.idle());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> this.mockMvc.perform(
+                    post("/")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(this.gson.toJson(ImmutableMap.of("foo", "Foo", "bar", "Bar")))
+            ).andExpect(status().isOk())).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, pool.created());
+        assertEquals(1, pool.reused());
+
+        try (ValidatorPool.Lease lease = pool.lease()) {
+            assertTrue(lease.validator().abort());
+            assertNull(lease.validator().shadow());
+            assertNull(lease.validator().locale());
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ValidatorPoolTests {
+
+    private static final ValidatorDefinition DEFINITION = () -> Validator.make()
+            .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()));
+
+    @Test
+    public void checkThreadLocalWhenReleasedThenResetAndReused() {
+        ValidatorPool pool = ValidatorPool.threadLocal(DEFINITION).configurer((validator) -> validator.compact(true));
+        Validator validator;
+
+        try (ValidatorPool.Lease lease = pool.lease()) {
+            validator = lease.validator();
+
+            validator.validate(new HashMap<>());
+
+            assertTrue(validator.compact());
+            assertEquals(List.of("is required"), validator.errors("foo"));
+
+            try (ValidatorPool.Lease nested = pool.lease()) {
+                assertNotSame(validator, nested.validator());
+            }
+        }
+
+        assertNull(validator.data());
+        assertNull(validator.violations());
+        assertFalse(validator.failed());
+        assertNull(validator.fieldValidators().get(0).value());
+
+        try (ValidatorPool.Lease lease = pool.lease()) {
+            assertSame(validator, lease.validator());
+        }
+
+        assertEquals(2, pool.created());
+        assertEquals(1, pool.reused());
+
+        ValidatorPool.Lease released = pool.lease();
+
+        released.close();
+        released.close();
+
+        assertThrows(IllegalStateException.class, released::validator);
+    }
+
+    @Test
+    public void checkBoundedWhenStaleLeaseClosedThenCurrentLeaseKept() {
+        ValidatorPool pool = ValidatorPool.bounded(DEFINITION, 2);
+        ValidatorPool.Lease stale = pool.lease();
+        Validator validator = stale.validator();
+
+        stale.close();
+
+        try (ValidatorPool.Lease current = pool.lease()) {
+            assertSame(validator, current.validator());
+
+            stale.close();
+
+            assertEquals(0, pool.idle());
+
+            try (ValidatorPool.Lease other = pool.lease()) {
+                assertNotSame(validator, other.validator());
+            }
+
+            assertSame(validator, current.validator());
+        }
+
+        assertEquals(2, pool.idle());
+    }
+
+    @Test
+    public void checkBoundedWhenFullOrDefinitionReloadedThenDiscarded() {
+        AtomicReference<ValidatorDefinition> current = new AtomicReference<>(DEFINITION);
+        ValidatorDefinition reloadable = new ValidatorDefinition() {
+            @Override
+            public Validator define() {
+                return current.get().define();
+            }
+
+            @Override
+            public ValidatorDefinition current() {
+                return current.get();
+            }
+        };
+        ValidatorPool pool = ValidatorPool.bounded(reloadable, 1);
+        ValidatorPool.Lease first = pool.lease();
+        ValidatorPool.Lease second = pool.lease();
+
+        first.close();
+        second.close();
+
+        assertEquals(1, pool.idle());
+        assertEquals(Boolean.FALSE, pool.apply((validator) -> {
+            validator.validate(Map.of("foo", "Foo"));
+
+            return validator.failed();
+        }));
+        assertEquals(1, pool.reused());
+
+        current.set(() -> DEFINITION.define().fieldValidator(Validator.FieldValidator.make().attribute("bar")));
+
+        assertEquals(2, (int) pool.apply((validator) -> validator.fieldValidators().size()));
+        assertEquals(3, pool.created());
+        assertEquals(1, pool.idle());
+    }
+
+}
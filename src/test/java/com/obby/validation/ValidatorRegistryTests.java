@@ -0,0 +1,98 @@
+package com.obby.validation;
+
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorRegistryTests {
+
+    @Test
+    public void checkRegistryWhenLoadedThenCachedAndInvalidatedPerTenant() {
+        Map<String, Integer> loads = new ConcurrentHashMap<>();
+        ValidatorRegistry registry = ValidatorRegistry.make((tenant, form, version) -> {
+            loads.merge(tenant + "/" + form + "/" + version, 1, Integer::sum);
+
+            return () -> Validator.make()
+                    .fieldValidator(Validator.FieldValidator.make().attribute(form).rule(Required.make()));
+        }, 100);
+
+        ValidatorDefinition definition = registry.definition("acme", "signup", "1");
+
+        assertSame(definition, registry.definition("acme", "signup", "1"));
+
+        Validator validator;
+
+        try (ValidatorPool.Lease lease = registry.lease("acme", "signup", "1")) {
+            validator = lease.validator();
+        }
+
+        try (ValidatorPool.Lease lease = registry.lease("acme", "signup", "1")) {
+            assertSame(validator, lease.validator());
+
+            try (ValidatorPool.Lease nested = registry.lease("acme", "signup", "1")) {
+                assertNotSame(validator, nested.validator());
+            }
+        }
+
+        registry.definition("acme", "login", "1");
+        registry.definition("globex", "signup", "1");
+        registry.invalidate("acme");
+
+        assertEquals(1, registry.size());
+        assertNotSame(definition, registry.definition("acme", "signup", "1"));
+        assertEquals(2, loads.get("acme/signup/1"));
+        assertEquals(1, loads.get("globex/signup/1"));
+    }
+
+    @Test
+    public void checkRegistryWhenMaximumSizeExceededThenEvicted() {
+        ValidatorRegistry registry = ValidatorRegistry.make((tenant, form, version) -> Validator::make, 10);
+
+        for (int i = 0; i < 1000; i++) {
+            registry.definition("tenant" + i, "form", "1");
+        }
+
+        assertTrue(registry.size() <= 10);
+        assertEquals(1000, registry.stats().missCount());
+    }
+
+    @Test
+    public void checkDirectoryLoaderWhenMissingOrInvalidThenIllegalState(@TempDir Path root) throws IOException {
+        Path form = Files.createDirectories(root.resolve("acme").resolve("signup"));
+
+        Files.writeString(
+                form.resolve("1.json"),
+                "{\"fieldValidators\": [{\"attribute\": \"foo\", \"rules\": [{\"type\": \"required\"}]}]}",
+                StandardCharsets.UTF_8
+        );
+
+        ValidatorRegistry registry = ValidatorRegistry.make(ValidatorRegistry.Loader.directory(root), 100);
+
+        try (ValidatorPool.Lease lease = registry.lease("acme", "signup", "1")) {
+            Validator validator = lease.validator();
+
+            validator.validate(Collections.singletonMap("foo", "Foo"));
+
+            assertFalse(validator.failed());
+        }
+
+        assertThrows(IllegalStateException.class, () -> registry.definition("acme", "signup", "2"));
+        assertThrows(IllegalArgumentException.class, () -> registry.definition("..", "signup", "1"));
+    }
+
+}
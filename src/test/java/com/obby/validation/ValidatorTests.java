@@ -0,0 +1,555 @@
+package com.obby.validation;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.obby.validation.rule.Confirmed;
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.Min;
+import com.obby.validation.rule.Nested;
+import com.obby.validation.rule.Required;
+import com.obby.validation.rule.RequiredIf;
+import com.obby.validation.rule.Same;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ValidatorTests {
+
+    @Test
+    public void checkSnapshotWhenAttributeSharedThenReadOnce() {
+        CountingMap data = new CountingMap();
+
+        data.put("foo", "Foo");
+        data.put("bar", "Bar");
+
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(
+                        Validator.FieldValidator.make().attribute("foo").customAttribute("Foo").rule(Required.make())
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Same.make("foo")));
+
+        validator.validate(data);
+
+        assertTrue(validator.failed("bar"));
+        assertEquals(1, data.reads.get("foo"));
+        assertEquals(1, data.reads.get("bar"));
+    }
+
+    @Test
+    public void checkCrossFieldRulesWhenMismatchThenFailure() {
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("password").rule(Confirmed.make()))
+                .fieldValidator(
+                        Validator.FieldValidator.make().attribute("company").rule(RequiredIf.make("type", "business"))
+                );
+
+        Map<String, String> data = new HashMap<>();
+
+        data.put("password", "secret");
+        data.put("password_confirmation", "secret");
+        data.put("type", "personal");
+
+        validator.validate(data);
+
+        assertFalse(validator.failed());
+
+        data.put("password_confirmation", "other");
+        data.put("type", "business");
+
+        validator.validate(data);
+
+        assertTrue(validator.failed("password"));
+        assertTrue(validator.failed("company"));
+        assertEquals("is required when type is [business]", validator.errors("company").get(0));
+    }
+
+    @Test
+    public void checkCrossFieldRulesWhenFieldValidatedAloneThenIllegalStateException() {
+        AtomicInteger tests = new AtomicInteger();
+        Validator.FieldValidator<Object> fieldValidator = Validator.FieldValidator.make()
+                .attribute("password")
+                .rule(ClosureRule.make((data, fail) -> tests.incrementAndGet()))
+                .rule(Confirmed.make());
+
+        IllegalStateException exception = assertThrows(
+                IllegalStateException.class, () -> fieldValidator.validate("secret")
+        );
+
+        assertEquals("[password] has cross-field rules and must be validated by a validator", exception.getMessage());
+        assertEquals(0, tests.get());
+
+        Validator.FieldValidator<Object> standalone = Validator.FieldValidator.make()
+                .attribute("password")
+                .rule(Required.make());
+
+        standalone.validate(null);
+
+        assertTrue(standalone.failed());
+    }
+
+    @Test
+    public void checkTraceWhenBailThenRecordSkipped() {
+        Validator validator = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("foo")
+                                .condition((data) -> true)
+                                .rule(Required.make())
+                                .rule(Required.make())
+                                .bail(true)
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .bail(true)
+                .tracing(true);
+
+        validator.validate(new HashMap<>());
+
+        ValidationTrace.Node root = validator.trace().root();
+        ValidationTrace.Node foo = root.children().get(0);
+
+        assertFalse(root.passed());
+        assertEquals("condition", foo.children().get(0).type());
+        assertTrue(foo.children().get(0).passed());
+        assertEquals("rule", foo.children().get(1).type());
+        assertFalse(foo.children().get(1).passed());
+        assertEquals("render", foo.children().get(2).type());
+        assertTrue(foo.children().get(3).skipped());
+        assertEquals(ValidationTrace.Node.BAIL, foo.children().get(3).reason());
+        assertTrue(root.children().get(1).skipped());
+        assertEquals(ValidationTrace.Node.BAIL, root.children().get(1).reason());
+        assertTrue(validator.trace().toJson().contains("\"skipped\":true,\"reason\":\"bail\""));
+
+        validator.tracing(false).sampler(ValidationTrace.Sampler.NEVER).validate(new HashMap<>());
+
+        assertNull(validator.trace());
+    }
+
+    @Test
+    public void checkBudgetWhenRulesExhaustedThenStopWithExceeded() {
+        AtomicInteger tests = new AtomicInteger();
+        Validator validator = Validator.make().budget(Budget.make().rules(2));
+
+        for (String attribute : List.of("foo", "bar", "baz")) {
+            validator.fieldValidator(
+                    Validator.FieldValidator.make()
+                            .attribute(attribute)
+                            .rule(ClosureRule.make((data, fail) -> tests.incrementAndGet()))
+            );
+        }
+
+        validator.validate(new HashMap<>());
+
+        assertTrue(validator.exceeded());
+        assertEquals(2, tests.get());
+        assertEquals(List.of("validation budget exceeded"), validator.errors(Validator.ATTRIBUTE_OF_DATA));
+
+        validator.budget(Budget.make().rules(3)).validate(new HashMap<>());
+
+        assertFalse(validator.exceeded());
+        assertFalse(validator.failed());
+    }
+
+    @Test
+    public void checkBudgetWhenElementsOrBytesExhaustedThenBudgetExceededException() {
+        Validator elements = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("items").rule(Each.make(Required.make())))
+                .budget(Budget.make().elements(100))
+                .abort(true);
+
+        assertThrows(
+                BudgetExceededException.class,
+                () -> elements.validate(Map.of("items", Collections.nCopies(1000, "item")))
+        );
+        assertTrue(elements.exceeded());
+
+        AtomicInteger tests = new AtomicInteger();
+        Validator bytes = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("text")
+                                .rule(Required.make())
+                                .rule(ClosureRule.make((data, fail) -> tests.incrementAndGet()))
+                )
+                .budget(Budget.make().bytes(1000).deadline(Duration.ofSeconds(10)));
+
+        bytes.validate(Map.of("text", "x".repeat(600)));
+
+        assertTrue(bytes.exceeded());
+        assertEquals(0, tests.get());
+        assertFalse(bytes.failed("text"));
+    }
+
+    @Test
+    public void checkBudgetWhenNestedEachExhaustsElementsThenExceeded() {
+        AtomicInteger tests = new AtomicInteger();
+        Validator validator = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("order")
+                                .rule(Nested.make().property(
+                                        "items",
+                                        Each.make(ClosureRule.make((data, fail) -> tests.incrementAndGet()))
+                                ))
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .budget(Budget.make().elements(100));
+
+        validator.validate(Map.of("order", Map.of("items", Collections.nCopies(1000, "item"))));
+
+        assertTrue(validator.exceeded());
+        assertEquals(100, tests.get());
+        assertFalse(validator.failed("order"));
+        assertFalse(validator.failed("bar"));
+        assertEquals(List.of("validation budget exceeded"), validator.errors(Validator.ATTRIBUTE_OF_DATA));
+    }
+
+    @Test
+    public void checkBudgetWhenExceededAfterTruncatedThenTruncatedKept() {
+        Validator validator = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("foo")
+                                .rule(ClosureRule.make((data, fail) -> fail.message("first")))
+                                .rule(ClosureRule.make((data, fail) -> fail.message("second")))
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("baz").rule(Required.make()))
+                .maxAttributeErrors(1)
+                .budget(Budget.make().rules(2))
+                .abort(true);
+
+        BudgetExceededException exception = assertThrows(
+                BudgetExceededException.class, () -> validator.validate(new HashMap<>())
+        );
+
+        assertTrue(exception.isTruncated());
+        assertEquals(List.of("first"), exception.getErrors().get("foo"));
+    }
+
+    @Test
+    public void checkGroupsWhenSelectedThenOnlyActiveValidated() {
+        AtomicInteger tests = new AtomicInteger();
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").groups("create").rule(Required.make()))
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("bar")
+                                .rule(Required.make())
+                                .rule(ClosureRule.<Object>make((data, fail) -> tests.incrementAndGet()).groups("update"))
+                );
+
+        validator.groups("create").validate(new HashMap<>());
+
+        assertTrue(validator.failed("foo"));
+        assertEquals(List.of("is required"), validator.errors("bar"));
+        assertEquals(0, tests.get());
+
+        validator.groups("update").validate(new HashMap<>());
+
+        assertFalse(validator.failed("foo"));
+        assertTrue(validator.failed("bar"));
+        assertEquals(1, tests.get());
+
+        validator.groups(new String[0]).validate(new HashMap<>());
+
+        assertTrue(validator.failed("foo"));
+        assertTrue(validator.failed("bar"));
+        assertEquals(2, tests.get());
+    }
+
+    @Test
+    public void checkGroupsWhenChangedAfterValidationThenReselected() {
+        Required rule = Required.make();
+        Validator.FieldValidator<Object> foo = Validator.FieldValidator.make().attribute("foo").rule(rule);
+        Validator validator = Validator.make()
+                .fieldValidator(foo)
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+
+        validator.groups("create").validate(new HashMap<>());
+
+        assertTrue(validator.failed("foo"));
+
+        rule.groups("update");
+        validator.validate(new HashMap<>());
+
+        assertFalse(validator.failed("foo"));
+
+        rule.groups(new String[0]);
+        foo.groups("update");
+        validator.validate(new HashMap<>());
+
+        assertFalse(validator.failed("foo"));
+        assertTrue(validator.failed("bar"));
+
+        foo.groups("create");
+        validator.validate(new HashMap<>());
+
+        assertTrue(validator.failed("foo"));
+    }
+
+    @Test
+    public void checkDeduplicationWhenRulesEqualThenEvaluatedOnce() {
+        CountingRule first = new CountingRule();
+        CountingRule second = new CountingRule();
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()).rule(first))
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("foo")
+                                .customAttribute("Foo")
+                                .rule(Required.make().customMessage("Foo is required"))
+                                .rule(second)
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+
+        validator.validate(new HashMap<>());
+
+        assertEquals(2, validator.deduplicated());
+        assertEquals(1, first.tests + second.tests);
+        assertEquals(List.of("is required", "invalid"), validator.errors("foo"));
+        assertEquals(List.of("Foo is required", "invalid"), validator.errors("Foo"));
+        assertTrue(validator.failed("bar"));
+
+        validator.validate(Map.of("foo", "Foo", "bar", "Bar"));
+
+        assertEquals(2, first.tests + second.tests);
+        assertFalse(validator.failed());
+    }
+
+    @Test
+    public void checkDeduplicationWhenSubclassThenNotShared() {
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(
+                        Validator.FieldValidator.make().attribute("foo").rule(new Required() {
+                            @Override
+                            public boolean test(Object data) {
+                                return super.test(data) && !"blank".equals(data);
+                            }
+                        })
+                );
+
+        validator.validate(Map.of("foo", "blank"));
+
+        assertEquals(0, validator.deduplicated());
+        assertEquals(List.of("is required"), validator.errors("foo"));
+    }
+
+    @Test
+    public void checkErrorCapsWhenReachedThenTruncated() {
+        AtomicInteger tests = new AtomicInteger();
+        Validator validator = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("foo")
+                                .rule(ClosureRule.make((data, fail) -> fail.message("first")))
+                                .rule(ClosureRule.make((data, fail) -> fail.message("second")))
+                                .rule(ClosureRule.make((data, fail) -> tests.incrementAndGet()))
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("baz").rule(Required.make()))
+                .maxAttributeErrors(2);
+
+        validator.validate(new HashMap<>());
+
+        assertTrue(validator.truncated());
+        assertEquals(List.of("first", "second"), validator.errors("foo"));
+        assertTrue(validator.failed("bar"));
+        assertTrue(validator.failed("baz"));
+        assertEquals(0, tests.get());
+
+        validator.maxErrors(3).validate(new HashMap<>());
+
+        assertTrue(validator.truncated());
+        assertEquals(2, validator.errors("foo").size());
+        assertTrue(validator.failed("bar"));
+        assertFalse(validator.failed("baz"));
+
+        validator.maxErrors(0).maxAttributeErrors(0).abort(true);
+
+        ValidationException exception = assertThrows(
+                ValidationException.class, () -> validator.validate(new HashMap<>())
+        );
+
+        assertFalse(exception.isTruncated());
+        assertEquals(List.of("first", "second", "is required"), exception.getErrors().get("foo"));
+        assertEquals(1, tests.get());
+    }
+
+    @Test
+    public void checkTraceWhenExportedThenNodesInExecutionOrder() {
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .tracing(true);
+
+        validator.validate(Map.of("foo", "Foo"));
+
+        ValidationTrace.Node root = validator.trace().root();
+        ValidationTrace.Node foo = root.children().get(0);
+        ValidationTrace.Node bar = root.children().get(1);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), List.of(
+                root.order(), foo.order(), foo.children().get(0).order(),
+                bar.order(), bar.children().get(0).order(), bar.children().get(1).order()
+        ));
+        assertEquals("fieldValidator", bar.type());
+        assertEquals("bar", bar.name());
+        assertEquals("Required", bar.children().get(0).name());
+        assertFalse(bar.children().get(0).passed());
+        assertEquals("render", bar.children().get(1).type());
+        assertTrue(foo.passed());
+        assertFalse(root.passed());
+
+        JsonObject json = JsonParser.parseString(validator.trace().toJson()).getAsJsonObject();
+        JsonObject exported = json.getAsJsonArray("children").get(1).getAsJsonObject();
+
+        assertEquals("validator", json.get("type").getAsString());
+        assertEquals("bar", exported.get("name").getAsString());
+        assertEquals(3, exported.get("order").getAsInt());
+        assertFalse(exported.get("passed").getAsBoolean());
+        assertEquals(
+                "Required", exported.getAsJsonArray("children").get(0).getAsJsonObject().get("name").getAsString()
+        );
+    }
+
+    @Test
+    public void checkTraceWhenBudgetOrCapsReachedThenRecordSkipReason() {
+        Validator validator = Validator.make()
+                .fieldValidator(
+                        Validator.FieldValidator.make()
+                                .attribute("foo")
+                                .rule(ClosureRule.make((data, fail) -> fail.message("first")))
+                                .rule(ClosureRule.make((data, fail) -> fail.message("second")))
+                )
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()))
+                .maxErrors(1)
+                .tracing(true);
+
+        validator.validate(new HashMap<>());
+
+        ValidationTrace.Node root = validator.trace().root();
+
+        assertEquals(ValidationTrace.Node.TRUNCATED, root.children().get(0).children().get(2).reason());
+        assertEquals(ValidationTrace.Node.TRUNCATED, root.children().get(1).reason());
+
+        validator.maxErrors(Integer.MAX_VALUE).budget(Budget.make().rules(1)).validate(new HashMap<>());
+
+        root = validator.trace().root();
+
+        assertEquals(ValidationTrace.Node.BUDGET, root.children().get(0).children().get(2).reason());
+        assertEquals(ValidationTrace.Node.BUDGET, root.children().get(1).reason());
+    }
+
+    @Test
+    public void checkMessagesWhenRenderedThenShared() {
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()).rule(Min.make(3)))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()).rule(Min.make(3)));
+
+        validator.validate(Map.of("foo", 1, "bar", 2));
+
+        assertEquals(List.of("must be at least 3"), validator.errors("foo"));
+        assertSame(validator.errors("foo").get(0), validator.errors("bar").get(0));
+
+        validator.validate(new HashMap<>());
+
+        assertEquals(List.of("is required"), validator.errors("foo"));
+        assertSame(validator.errors("foo").get(0), validator.errors("bar").get(0));
+        assertTrue(Messages.message("validation.required", Locale.ENGLISH).constant());
+        assertFalse(Messages.message("validation.min", Locale.ENGLISH).constant());
+    }
+
+    @Test
+    public void checkSharedConditionWhenSharedThenEvaluatedOncePerRun() {
+        AtomicInteger tests = new AtomicInteger();
+        SharedCondition business = SharedCondition.make("business", (values) -> {
+            tests.incrementAndGet();
+
+            return "business".equals(values[0]);
+        }, "type");
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").sharedCondition(business).rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").sharedCondition(business).rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("baz").sharedCondition(business).rule(Required.make()));
+
+        validator.validate(Map.of("type", "business"));
+
+        assertTrue(validator.failed("foo"));
+        assertTrue(validator.failed("baz"));
+        assertEquals(1, tests.get());
+        assertEquals(1, validator.conditionEvaluations());
+
+        validator.validate(Map.of("type", "personal"));
+
+        assertFalse(validator.failed());
+        assertEquals(2, tests.get());
+
+        validator.incremental(true);
+        validator.validate(Map.of("type", "personal", "foo", "Foo"));
+        validator.validate(Map.of("type", "personal", "bar", "Bar"));
+
+        assertEquals(3, tests.get());
+        assertEquals(0, validator.conditionEvaluations());
+
+        validator.validate(Map.of("type", "business", "foo", "Foo"));
+
+        assertEquals(4, tests.get());
+        assertFalse(validator.failed("foo"));
+        assertTrue(validator.failed("bar"));
+    }
+
+    private static class CountingRule extends Rule<Object, CountingRule> {
+
+        private int tests;
+
+        @Override
+        public String defaultMessage() {
+            return "invalid";
+        }
+
+        @Override
+        public boolean test(Object data) {
+            this.tests++;
+
+            return data != null;
+        }
+
+        @Override
+        public Object definitionKey() {
+            return this.getClass();
+        }
+
+    }
+
+    private static class CountingMap extends HashMap<String, Object> {
+
+        private final Map<Object, Integer> reads = new HashMap<>();
+
+        @Override
+        public Object get(Object key) {
+            this.reads.merge(key, 1, Integer::sum);
+
+            return super.get(key);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.obby.validation;
+
+import com.google.gson.JsonParser;
+import com.obby.validation.rule.Each;
+import com.obby.validation.rule.In;
+import com.obby.validation.rule.Min;
+import com.obby.validation.rule.Required;
+import com.obby.validation.rule.Type;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.lang.NonNull;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ValueSourcesTests {
+
+    @Test
+    public void checkJsonObjectWhenValidatedThenReadWithoutConversion() {
+        Validator validator = Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("name").rule(Required.make()))
+                .fieldValidator(
+                        Validator.FieldValidator.make().attribute("age").rule(Type.make("integer")).rule(Min.make(18))
+                )
+                .fieldValidator(
+                        Validator.FieldValidator.make().attribute("roles").rule(Each.make(In.make("admin", "user")))
+                );
+
+        validator.validate(JsonParser.parseString("{\"name\": \"obby\", \"age\": 20, \"roles\": [\"user\"]}"));
+
+        assertFalse(validator.failed(), () -> validator.errors().toString());
+
+        validator.validate(JsonParser.parseString("{\"name\": null, \"age\": 17, \"roles\": [\"guest\"]}"));
+
+        assertTrue(validator.failed("name"));
+        assertTrue(validator.failed("age"));
+        assertTrue(validator.failed("roles"));
+    }
+
+    @Test
+    public void checkParametersWhenSingleOrMultipleThenValueOrList() {
+        MultiValueMap<String, String> parameters = new LinkedMultiValueMap<>();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        parameters.add("foo", "Foo");
+        parameters.add("bar", "Bar");
+        parameters.add("bar", "Baz");
+        request.addParameter("foo", "Foo");
+        request.addParameter("bar", "Bar", "Baz");
+
+        for (Object data : List.of(parameters, request)) {
+            assertEquals("Foo", ValueSources.value(data, "foo"));
+            assertEquals(List.of("Bar", "Baz"), ValueSources.value(data, "bar"));
+            assertNull(ValueSources.value(data, "baz"));
+        }
+    }
+
+    @Test
+    public void checkResolveWhenRegisteredThenCachedAndPreferred() {
+        assertSame(ValueSources.resolve(Form.class), ValueSources.resolve(Form.class));
+        assertEquals("Foo", ValueSources.value(new Form("Foo"), "foo"));
+        assertNull(ValueSources.value(new Form("Foo"), "bar"));
+
+        ValueSources.register(new ValueSource() {
+            @Override
+            public boolean supports(@NonNull Class<?> type) {
+                return type == Form.class;
+            }
+
+            @Override
+            public Object value(@NonNull Object data, @NonNull String attribute) {
+                return attribute.toUpperCase();
+            }
+        });
+
+        assertEquals("BAR", ValueSources.value(new Form("Foo"), "bar"));
+    }
+
+    private static class Form {
+
+        private final String foo;
+
+        private Form(String foo) {
+            this.foo = foo;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.obby.validation;
+
+import com.google.common.collect.ImmutableMap;
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 紧凑验证失败结果内存占用测试
+ * <p>
+ * 对比保存验证失败消息与保存紧凑验证失败结果时的保留堆大小。运行：{@code mvn test -P benchmark}。
+ */
+@Tag("benchmark")
+class ViolationsFootprintTests {
+
+    private static final int ROWS = 10_000;
+
+    @Test
+    public void checkFootprintWhenCompactThenSmallerThanErrors() {
+        List<Map<String, String>> rows = new ArrayList<>(ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(ImmutableMap.of("baz", String.valueOf(i)));
+        }
+
+        Validator validator = validator();
+        Validator compactValidator = validator().compact(true);
+        List<Map<String, List<String>>> errors = new ArrayList<>(ROWS);
+        List<Violations> violations = new ArrayList<>(ROWS);
+
+        for (Map<String, String> row : rows) {
+            validator.validate(row);
+            errors.add(new HashMap<>(validator.errors()));
+
+            compactValidator.validate(row);
+            violations.add(compactValidator.violations());
+        }
+
+        assertEquals(errors.get(0), violations.get(0).errors());
+
+        long errorsSize = GraphLayout.parseInstance(errors).totalSize();
+        long violationsSize = GraphLayout.parseInstance(violations).totalSize();
+
+        assertTrue(
+                violationsSize * 2 < errorsSize,
+                () -> "errors " + errorsSize + " bytes, violations " + violationsSize + " bytes"
+        );
+    }
+
+    private static Validator validator() {
+        return Validator.make()
+                .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+                .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+    }
+
+}
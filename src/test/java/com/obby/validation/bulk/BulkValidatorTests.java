@@ -0,0 +1,121 @@
+package com.obby.validation.bulk;
+
+import com.obby.validation.Validator;
+import com.obby.validation.ValidatorDefinition;
+import com.obby.validation.rule.Required;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class BulkValidatorTests {
+
+    private static final ValidatorDefinition definition = () -> Validator.make()
+            .fieldValidator(Validator.FieldValidator.make().attribute("foo").rule(Required.make()))
+            .fieldValidator(Validator.FieldValidator.make().attribute("bar").rule(Required.make()));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void checkNdjsonWhenChunksSplitLinesThenReportInLineOrder() throws IOException {
+        StringBuilder input = new StringBuilder();
+
+        for (int i = 1; i <= 200; i++) {
+            if (i % 7 == 0) {
+                input.append("{\"foo\":\"Foo\"}\n");
+            } else if (i == 50) {
+                input.append("not json\n");
+            } else if (i == 60) {
+                input.append("\n");
+            } else {
+                input.append("{\"foo\":\"Foo\",\"bar\":\"Bar ").append(i).append("\"}\r\n");
+            }
+        }
+
+        Path file = this.directory.resolve("input.ndjson");
+        Path report = this.directory.resolve("report.ndjson");
+
+        Files.writeString(file, input, StandardCharsets.UTF_8);
+
+        Report result = BulkValidator.make(definition)
+                .chunkSize(100)
+                .parallelism(4)
+                .locale(Locale.ENGLISH)
+                .validate(file, report);
+
+        List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+
+        assertEquals(199, result.records());
+        assertEquals(1, result.malformed());
+        assertEquals(200 / 7 + 1, result.failed());
+        assertEquals(result.failed(), lines.size());
+        assertEquals("{\"line\":7,\"errors\":{\"bar\":[\"is required\"]}}", lines.get(0));
+        assertTrue(lines.get(7).startsWith("{\"line\":50,\"error\":\"malformed record"), lines.get(7));
+        assertTrue(lines.get(lines.size() - 1).startsWith("{\"line\":196,"));
+        assertTrue(result.recordsPerSecond() > 0);
+    }
+
+    @Test
+    public void checkCsvWhenQuotedFieldsThenParsedByHeader() throws IOException {
+        Path file = this.directory.resolve("input.csv");
+        Path report = this.directory.resolve("report.ndjson");
+
+        Files.writeString(
+                file,
+                "﻿foo,bar\n\"Foo, \"\"quoted\"\"\",Bar\n,Bar\nFoo,\n\"unterminated,Bar",
+                StandardCharsets.UTF_8
+        );
+
+        Report result = BulkValidator.make(definition)
+                .format(Format.CSV)
+                .locale(Locale.ENGLISH)
+                .validate(file, report);
+
+        List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+
+        assertEquals(4, result.records());
+        assertEquals(3, result.failed());
+        assertEquals(1, result.malformed());
+        assertEquals("{\"line\":3,\"errors\":{\"foo\":[\"is required\"]}}", lines.get(0));
+        assertEquals("{\"line\":4,\"errors\":{\"bar\":[\"is required\"]}}", lines.get(1));
+        assertTrue(lines.get(2).startsWith("{\"line\":5,\"error\":"));
+    }
+
+    @Test
+    public void checkStreamWhenLimitsSetThenAppliedPerRecord() throws IOException {
+        String input = "{}\n{\"foo\":\"" + "x".repeat(100) + "\"}\n{\"foo\":\"Foo\",\"bar\":\"Bar\"}\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        Report result = BulkValidator.make(definition)
+                .maxErrors(1)
+                .maxLineLength(64)
+                .poolCapacity(1)
+                .validate(
+                        new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output, Locale.ENGLISH
+                );
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(3, result.records());
+        assertEquals(1, result.malformed());
+        assertEquals(
+                "{\"line\":1,\"valid\":false,\"errors\":{\"foo\":[\"is required\"]},\"truncated\":true}", lines[0]
+        );
+        assertEquals("{\"line\":2,\"valid\":false,\"error\":\"record exceeds 64 characters\"}", lines[1]);
+        assertEquals("{\"line\":3,\"valid\":true}", lines[2]);
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.obby.validation.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpillingErrorSinkTests {
+
+    @Test
+    public void checkSinkWhenThresholdExceededThenSpillAndIterateInOrder() throws IOException {
+        Path file;
+
+        try (SpillingErrorSink sink = SpillingErrorSink.make(4096)) {
+            for (int i = 1; i <= 10; i++) {
+                sink.add(i, json(i));
+            }
+
+            assertFalse(sink.spilled());
+
+            for (int i = 11; i <= 20_000; i++) {
+                sink.add(i, json(i));
+            }
+
+            sink.add(20_001, "{\"line\":20001,\"errors\":{\"foo\":[\"" + "x".repeat(100_000) + "\"]}}");
+
+            assertTrue(sink.spilled());
+            assertEquals(20_001, sink.size());
+
+            file = sink.file();
+
+            try (ErrorSink.Cursor cursor = sink.cursor()) {
+                long expected = 1;
+
+                while (cursor.hasNext()) {
+                    ErrorSink.Entry entry = cursor.next();
+
+                    assertEquals(expected, entry.line());
+
+                    if (expected < 20_001) {
+                        assertEquals(json(expected), entry.json());
+                    }
+
+                    expected++;
+                }
+
+                assertEquals(20_002, expected);
+            }
+        }
+
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void checkSinkWhenBelowThresholdThenInMemory() throws IOException {
+        try (SpillingErrorSink sink = SpillingErrorSink.make(SpillingErrorSink.DEFAULT_THRESHOLD)) {
+            sink.add(3, json(3));
+
+            try (ErrorSink.Cursor cursor = sink.cursor()) {
+                assertEquals(3, cursor.next().line());
+                assertFalse(cursor.hasNext());
+            }
+
+            assertFalse(sink.spilled());
+        }
+    }
+
+    @Test
+    public void checkSinkWhenSpilledThenLineReadFromRecord() throws IOException {
+        try (SpillingErrorSink sink = SpillingErrorSink.make(0)) {
+            sink.add(7, "{\"errors\":{\"foo\":[\"is\trequired\"]}}");
+            sink.add(12, "{\"line\":1,\"valid\":false}");
+
+            assertTrue(sink.spilled());
+
+            try (ErrorSink.Cursor cursor = sink.cursor()) {
+                ErrorSink.Entry first = cursor.next();
+                ErrorSink.Entry second = cursor.next();
+
+                assertEquals(7, first.line());
+                assertEquals("{\"errors\":{\"foo\":[\"is\trequired\"]}}", first.json());
+                assertEquals(12, second.line());
+                assertEquals("{\"line\":1,\"valid\":false}", second.json());
+                assertFalse(cursor.hasNext());
+            }
+        }
+    }
+
+    private static String json(long line) {
+        return "{\"line\":" + line + ",\"errors\":{\"foo\":[\"is required\"]}}";
+    }
+
+}